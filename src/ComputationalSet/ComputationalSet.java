@@ -13,23 +13,71 @@ import java.util.*;
  * methods used by other
  * subsets.
  *
+ * Elements are kept on a sorted
+ * set by default. Sets that look up
+ * their elements often can use a
+ * hashed store instead, which finds
+ * them in constant time and still
+ * iterates them in order.
+ *
  * @author Cristian Abrante
  * @version 1.0.0
  */
 public abstract class ComputationalSet<E>
         extends AbstractSet<E> {
+  /**
+   * Stores where the elements
+   * of the set are kept.
+   */
+  public enum Store {
+    /**
+     * Sorted set, where elements are
+     * found in logarithmic time.
+     */
+    SORTED,
+    /**
+     * Hash table of the elements, where
+     * they are found in constant time.
+     * The order is only computed when
+     * the set is iterated.
+     */
+    HASHED
+  }
+
   /**
    * For complexity reasosns an
    * internal set is used.
    */
   private Set<E> internalSet;
 
+  /**
+   * Number of times the set
+   * has been modified.
+   */
+  private int modifications;
+
   /**
    * Constructor of the class.
    * It creates an empty set.
    */
   public ComputationalSet() {
-    setInternalSet(new TreeSet<>());
+    this(Store.SORTED);
+  }
+
+  /**
+   * Constructor of the class.
+   * It creates an empty set
+   * kept on the specified store.
+   *
+   * @param store of the elements.
+   * @throws NullPointerException
+   *          if store is {@code null}.
+   */
+  protected ComputationalSet(Store store) {
+    if (store == null)
+      throw new NullPointerException("store can not be null.");
+
+    setInternalSet(store == Store.HASHED ? new HashedSet<>() : new TreeSet<>());
   }
 
   /**
@@ -49,6 +97,23 @@ public abstract class ComputationalSet<E>
     add(e);
   }
 
+  /**
+   * Constructor of the class.
+   *
+   * It creates a set kept on the
+   * specified store with all elements
+   * contained in the collection.
+   *
+   * @param store of the elements.
+   * @param c collection to add.
+   * @throws NullPointerException
+   *          if store is {@code null}.
+   */
+  protected ComputationalSet(Store store, Collection<? extends E> c) {
+    this(store);
+    addAll(c);
+  }
+
   /**
    * Constructor of the class.
    *
@@ -113,7 +178,7 @@ public abstract class ComputationalSet<E>
    */
   @Override
   public boolean add(E e) {
-    return getInternalSet().add(e);
+    return modified(getInternalSet().add(e));
   }
 
   /**
@@ -130,7 +195,7 @@ public abstract class ComputationalSet<E>
    */
   @Override
   public boolean remove(Object o) {
-    return getInternalSet().remove(o);
+    return modified(getInternalSet().remove(o));
   }
 
   /**
@@ -166,7 +231,7 @@ public abstract class ComputationalSet<E>
    */
   @Override
   public boolean addAll(Collection<? extends E> c) {
-    return getInternalSet().addAll(c);
+    return modified(getInternalSet().addAll(c));
   }
 
   /**
@@ -175,6 +240,7 @@ public abstract class ComputationalSet<E>
    */
   @Override
   public void clear() {
+    modified(!getInternalSet().isEmpty());
     getInternalSet().clear();
   }
 
@@ -211,7 +277,24 @@ public abstract class ComputationalSet<E>
    */
   @Override
   public Iterator<E> iterator() {
-    return getInternalSet().iterator();
+    Iterator<E> iterator = getInternalSet().iterator();
+    return new Iterator<E>() {
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public E next() {
+        return iterator.next();
+      }
+
+      @Override
+      public void remove() {
+        iterator.remove();
+        modified(true);
+      }
+    };
   }
 
   /**
@@ -268,6 +351,12 @@ public abstract class ComputationalSet<E>
     if (e == null)
       throw new NullPointerException("element can not be null.");
 
+    if (getInternalSet() instanceof HashedSet)
+      return ((HashedSet<E>) getInternalSet()).get(e);
+    if (getInternalSet() instanceof NavigableSet) {
+      E elem = ((NavigableSet<E>) getInternalSet()).floor(e);
+      return elem != null && elem.equals(e) ? elem : null;
+    }
     for (E elem : this) {
       if (elem.equals(e)) {
         return elem;
@@ -276,6 +365,31 @@ public abstract class ComputationalSet<E>
     return null;
   }
 
+  /**
+   * Returns the number of times the
+   * set has been modified, so users
+   * of the set can tell if it changed
+   * since they last looked at it.
+   *
+   * @return number of modifications.
+   */
+  public int getModifications() {
+    return modifications;
+  }
+
+  /**
+   * Counts a modification of
+   * the set if it changed.
+   *
+   * @param changed if the set changed.
+   * @return if the set changed.
+   */
+  private boolean modified(boolean changed) {
+    if (changed)
+      modifications += 1;
+    return changed;
+  }
+
   /**
    * Returns the internal set of
    * the set.
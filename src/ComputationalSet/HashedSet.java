@@ -0,0 +1,121 @@
+package ComputationalSet;
+
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * <h2>HashedSet</h2>
+ *
+ * Set indexed by the hash of its
+ * elements, used as the store of
+ * hashed computational sets.
+ *
+ * Each element is mapped to the
+ * instance stored in the set, so the
+ * stored element equal to another one
+ * is found in constant time. Elements
+ * are iterated in their natural order,
+ * as in a sorted set, through a sorted
+ * view that is only built the first
+ * time the set is iterated and is kept
+ * up to date after that.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+class HashedSet<E> extends AbstractSet<E> {
+
+  /**
+   * Stored instance of each element.
+   */
+  private final Map<E, E> canonical = new HashMap<>();
+
+  /**
+   * Elements in natural order, or
+   * {@code null} if the set has not
+   * been iterated yet.
+   */
+  private TreeSet<E> sorted;
+
+  /**
+   * Returns the stored element equal
+   * to the specified one.
+   *
+   * @param e element to look for.
+   * @return the stored element, or
+   *          {@code null} if not present.
+   */
+  E get(E e) {
+    return canonical.get(e);
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (o == null)
+      throw new NullPointerException("element can not be null.");
+    return canonical.containsKey(o);
+  }
+
+  @Override
+  public boolean add(E e) {
+    if (e == null)
+      throw new NullPointerException("element can not be null.");
+    if (canonical.putIfAbsent(e, e) != null)
+      return false;
+    if (sorted != null)
+      sorted.add(e);
+    return true;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    if (o == null)
+      throw new NullPointerException("element can not be null.");
+    if (canonical.remove(o) == null)
+      return false;
+    if (sorted != null)
+      sorted.remove(o);
+    return true;
+  }
+
+  @Override
+  public void clear() {
+    canonical.clear();
+    sorted = null;
+  }
+
+  @Override
+  public int size() {
+    return canonical.size();
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    if (sorted == null)
+      sorted = new TreeSet<>(canonical.keySet());
+    Iterator<E> iterator = sorted.iterator();
+    return new Iterator<E>() {
+      private E last;
+
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public E next() {
+        last = iterator.next();
+        return last;
+      }
+
+      @Override
+      public void remove() {
+        iterator.remove();
+        canonical.remove(last);
+      }
+    };
+  }
+}
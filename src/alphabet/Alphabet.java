@@ -21,6 +21,10 @@ import symbol.Symbol;
  * computation systems such as DFA,
  * NFA, PDA or Turing machine
  * 
+ * Symbols are kept on a hashed store,
+ * so they are found by value in
+ * constant time.
+ * 
  * @author	Cristian Abrante
  * @version 1.0.0
  */
@@ -40,7 +44,8 @@ public class Alphabet
    *         if symbol is <code>null</code>.
    */
   public Alphabet(Symbol symbol) {
-    super(symbol);
+    super(Store.HASHED);
+    add(symbol);
   }
   
   /**
@@ -60,7 +65,7 @@ public class Alphabet
    *         if symbols is <code>null</code>.
    */
   public Alphabet(Collection<Symbol> symbols) {
-    super(symbols);
+    super(Store.HASHED, symbols);
   }
 
   /**
@@ -73,7 +78,7 @@ public class Alphabet
    *          belongs to the alphabet.
    */
   public boolean containsByValue(String value) {
-    return super.contains(new Symbol(value));
+    return super.contains(Symbol.valueOf(value));
   }
 
   /**
@@ -134,6 +139,6 @@ public class Alphabet
     if (value.equals(Symbol.EMPTY_SYMBOL_VALUE))
       return Symbol.EMPTY_SYMBOL;
 
-    return get(new Symbol(value));
+    return get(Symbol.valueOf(value));
   }
 }
@@ -160,4 +160,27 @@ public class AlphabetTest {
     sigma = new Alphabet(Symbol.EMPTY_SYMBOL);
     assertEquals("{ε}", sigma.toString());
   }
+  
+  @Test
+  public void getByValueTest() {
+    Collection<Symbol> symbols = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      symbols.add(new Symbol("s" + i));
+    }
+    Alphabet sigma = new Alphabet(symbols);
+    Symbol s500 = sigma.getByValue("s500");
+    
+    assertEquals(new Symbol("s500"), s500);
+    assertSame(s500, sigma.get(Symbol.valueOf("s500")));
+    assertNull(sigma.getByValue("t"));
+    assertSame(Symbol.EMPTY_SYMBOL, sigma.getByValue(Symbol.EMPTY_SYMBOL_VALUE));
+    
+    // elements are still iterated in order.
+    sigma.add(new Symbol("a"));
+    assertEquals(new ArrayList<>(new TreeSet<>(sigma)), new ArrayList<>(sigma));
+    assertEquals(new Symbol("a"), sigma.iterator().next());
+    sigma.remove(new Symbol("a"));
+    assertEquals(new Symbol("s0"), sigma.iterator().next());
+    assertFalse(sigma.containsByValue("a"));
+  }
 }
@@ -6,7 +6,9 @@ import tape.reader.TapeReader;
 
 import java.io.FileNotFoundException;
 import java.io.FileReader;
+import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * <h2>Main</h2>
@@ -16,8 +18,10 @@ import java.util.Scanner;
  */
 public class Main {
   public static void main(String[] args) throws FileNotFoundException {
-    if (args.length <= 0 || args.length > 3)
+    if (args.length <= 0 || args.length > 3) {
       System.err.println("Incorrect number of arguments.");
+      return;
+    }
 
     boolean log = args[0].equals("log");
     String ApFileName = log ? args[1] : args[0];
@@ -29,7 +33,7 @@ public class Main {
       tapeFileName = args[1];
 
     PDAReader pdaReader = new PDAReader(new FileReader(ApFileName));
-    PushdownAutomaton pda = pdaReader.getReadedPDA();
+    PushdownAutomaton pda = pdaReader.getReadPDA();
     TapeReader tapeReader = null;
     System.out.println(pda);
 
@@ -43,17 +47,23 @@ public class Main {
       tapeReader = new TapeReader(new FileReader(tapeFileName));
     }
 
-    Tape tape = new Tape(tapeReader.getTokenizedInput(), pda.getInputAlphabet());
-
-    pda.isPrintable = log;
-    boolean belongs = pda.evaluate(tape);
-
-    tape.setCurrentPosition(0);
+    List<Tape> tapes = tapeReader.getReadTapes();
+    boolean[] belongs;
+    if (log) {
+      belongs = new boolean[tapes.size()];
+      for (int i = 0; i < tapes.size(); i++) {
+        belongs[i] = pda.trace(tapes.get(i));
+      }
+    } else {
+      belongs = pda.evaluate(tapes, ForkJoinPool.commonPool());
+    }
 
     System.out.println();
-    System.out.println("String " + tape + " "
-            + (belongs? "belongs" : "not belongs")
-            + " to the language generated by the automaton.");
+    for (int i = 0; i < tapes.size(); i++) {
+      System.out.println("String " + tapes.get(i) + " "
+              + (belongs[i] ? "belongs" : "not belongs")
+              + " to the language generated by the automaton.");
+    }
 
     System.out.println();
     System.out.println("Done by: Cristian Abrante");
@@ -1,20 +1,22 @@
 package pushdown;
 
 import alphabet.Alphabet;
-import org.javatuples.Triplet;
-import pushdown.stack.PDAStack;
-import pushdown.transition.PDATransition;
+import pushdown.compiled.CompiledAutomaton;
+import pushdown.evaluator.BatchEvaluator;
+import pushdown.evaluator.DepthFirstEvaluator;
+import pushdown.evaluator.EvaluationStrategy;
+import pushdown.evaluator.Evaluator;
+import pushdown.evaluator.EvaluatorPool;
+import pushdown.grammar.ContextFreeGrammar;
 import pushdown.transition.PDATransitionFunction;
 import state.SetOfStates;
 import state.State;
 import symbol.Symbol;
 import tape.Tape;
-import transition.Transition;
 
-import java.util.Collections;
-import java.util.Set;
-import java.util.Stack;
-import java.util.TreeSet;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 /**
  * <h2>PushdownAutomaton</h2>
@@ -25,55 +27,36 @@ import java.util.TreeSet;
  * It contains the main elements
  * of this formal computing system.
  *
+ * The automaton holds no state of
+ * its evaluations, so it can be
+ * shared by any number of threads.
+ * Each thread evaluates tapes with
+ * its own pooled evaluators. The
+ * automaton is compiled again when its
+ * definition has been modified since it
+ * was compiled, which must not happen
+ * while it is being evaluated.
+ *
  * @author Cristian Abrante
  * @version 1.0.0
  */
 public class PushdownAutomaton {
 
-  private class EvaluationStack
-          extends Stack<Triplet<State, Tape, PDAStack>> {
-    public void push(State state,
-                     Tape tape,
-                     PDAStack stack) {
-      Tape copyTape = new Tape(tape);
-      PDAStack copyStack = new PDAStack(stack);
-      Triplet<State, Tape, PDAStack> evaluationState =
-              new Triplet<>(state, copyTape, copyStack);
-      super.push(evaluationState);
-    }
-
-    public Triplet<State, Tape, PDAStack> pop() {
-      return super.pop();
-    }
-
-    public State peekState() {
-      return peek().getValue0();
-    }
-
-    public Tape peekTape() {
-      return peek().getValue1();
-    }
-
-    public PDAStack peekStack() {
-      return peek().getValue2();
-    }
-  }
-
-  private SetOfStates setOfStates;
-  private Alphabet inputAlphabet;
-  private Alphabet stackAlphabet;
-  private State initialState;
-  private Symbol initialStackSymbol;
-  private SetOfStates acceptingStates;
-  private PDATransitionFunction transitionFunction;
-
-  private State currentEvaluationState;
-  private Tape currentEvaluationTape;
-  private PDAStack currentEvaluationStack;
-  private EvaluationStack evaluationStack;
-
-  public boolean isPrintable;
-  private int tapeSize;
+  private final SetOfStates setOfStates;
+  private final Alphabet inputAlphabet;
+  private final Alphabet stackAlphabet;
+  private final State initialState;
+  private final Symbol initialStackSymbol;
+  private final SetOfStates acceptingStates;
+  private final PDATransitionFunction transitionFunction;
+
+  /**
+   * Compiled automaton and the evaluators
+   * of each thread, created on the
+   * first evaluation, with the
+   * modifications it was compiled from.
+   */
+  private volatile CompiledPool compiledPool;
 
   public PushdownAutomaton(SetOfStates setOfStates,
                            Alphabet inputAlphabet,
@@ -119,44 +102,195 @@ public class PushdownAutomaton {
     return transitionFunction;
   }
 
+  /**
+   * Returns the compiled version of
+   * the automaton, creating it the
+   * first time it is requested and
+   * after the definition is modified.
+   *
+   * @return the compiled automaton.
+   */
+  public CompiledAutomaton compile() {
+    return getEvaluatorPool().getAutomaton();
+  }
+
+  /**
+   * Creates a new evaluator of the
+   * automaton, that can be used by
+   * one thread at a time.
+   *
+   * @param strategy of the evaluation.
+   * @return the new evaluator.
+   * @throws NullPointerException if
+   *          strategy is {@code null}.
+   */
+  public Evaluator newEvaluator(EvaluationStrategy strategy) {
+    if (strategy == null)
+      throw new NullPointerException("strategy can not be null.");
+    return strategy.newEvaluator(compile());
+  }
+
+  /**
+   * Returns a context free grammar that
+   * generates the language of the
+   * automaton. It is translated only
+   * once, together with the compiled
+   * automaton.
+   *
+   * @return the equivalent grammar.
+   */
+  public ContextFreeGrammar toGrammar() {
+    return compile().getGrammar();
+  }
+
+  /**
+   * Tests if the tape belongs to the
+   * language of the automaton.
+   *
+   * The whole tape is evaluated,
+   * regardless of the position of
+   * its head, and the tape is not
+   * modified. Computations are
+   * explored in depth first order
+   * by a {@link DepthFirstEvaluator}.
+   * When the automaton is deterministic
+   * its only computation is followed by
+   * a deterministic evaluator.
+   *
+   * @param inputTape tape to evaluate.
+   * @return {@code true} if the tape
+   *          is accepted.
+   * @throws NullPointerException if tape
+   *          is {@code null}.
+   */
   public boolean evaluate(Tape inputTape) {
+    return evaluate(inputTape, EvaluationStrategy.DEPTH_FIRST);
+  }
+
+  /**
+   * Tests if the tape belongs to the
+   * language of the automaton, using
+   * the specified strategy.
+   *
+   * The evaluator of the strategy is
+   * reused by the next evaluations of
+   * the same thread.
+   *
+   * @param inputTape tape to evaluate.
+   * @param strategy of the evaluation.
+   * @return {@code true} if the tape
+   *          is accepted.
+   * @throws NullPointerException if tape
+   *          or strategy are {@code null}.
+   */
+  public boolean evaluate(Tape inputTape, EvaluationStrategy strategy) {
     if (inputTape == null)
       throw new NullPointerException("can not evaluate a null input tape.");
+    if (strategy == null)
+      throw new NullPointerException("strategy can not be null.");
 
-    if (!inputTape.isReset())
-      throw new IllegalArgumentException("tape must be reset");
-    tapeSize = inputTape.size();
-    currentEvaluationState = initialState;
-    currentEvaluationTape = inputTape;
-    currentEvaluationStack = new PDAStack();
-    currentEvaluationStack.push(initialStackSymbol);
+    return getEvaluatorPool().evaluate(inputTape, strategy);
+  }
 
-    evaluationStack = new EvaluationStack();
+  /**
+   * Tests if the tape belongs to the
+   * language of the automaton, printing
+   * the depth first search of its
+   * computations as a trace.
+   *
+   * @param inputTape tape to evaluate.
+   * @return {@code true} if the tape
+   *          is accepted.
+   * @throws NullPointerException if tape
+   *          is {@code null}.
+   */
+  public boolean trace(Tape inputTape) {
+    if (inputTape == null)
+      throw new NullPointerException("can not evaluate a null input tape.");
 
-    TreeSet<PDATransition> nextTransitions =
-            transitionFunction.getNextState(currentEvaluationState,
-                    currentEvaluationTape.read(),
-                    currentEvaluationStack.peek());
-    if (isPrintable) {
-      printHeader();
-      printCurrentState(null, nextTransitions);
-    }
-    if (nextTransitions != null) {
-      evaluationStack.push(currentEvaluationState,
-                           currentEvaluationTape,
-                           currentEvaluationStack);
-      for (PDATransition t : nextTransitions) {
-        if (evaluateTransition(t)) {
-          if (isPrintable)
-            printCurrentState(t, null);
-          return true;
-        } else {
-          restoreActualState();
+    DepthFirstEvaluator evaluator = new DepthFirstEvaluator(compile());
+    evaluator.setPrintable(true);
+    return evaluator.evaluate(inputTape);
+  }
+
+  /**
+   * Tests if each tape belongs to the
+   * language of the automaton, evaluating
+   * them in parallel on the executor.
+   *
+   * Evaluations are never printed.
+   *
+   * @param tapes to evaluate.
+   * @param executor where tapes are evaluated.
+   * @return the result of each tape,
+   *          in the same order.
+   * @throws NullPointerException if any
+   *          parameter or tape is {@code null}.
+   * @see BatchEvaluator
+   */
+  public boolean[] evaluate(List<Tape> tapes, Executor executor) {
+    return new BatchEvaluator(getEvaluatorPool(), EvaluationStrategy.DEPTH_FIRST, executor)
+            .evaluate(tapes);
+  }
+
+  /**
+   * Tests if each tape of the stream belongs
+   * to the language of the automaton,
+   * evaluating them in parallel on the
+   * executor.
+   *
+   * Evaluations are never printed.
+   *
+   * @param tapes to evaluate.
+   * @param executor where tapes are evaluated.
+   * @return the result of each tape,
+   *          in the same order.
+   * @throws NullPointerException if any
+   *          parameter is {@code null}.
+   * @see BatchEvaluator
+   */
+  public Stream<Boolean> evaluate(Stream<Tape> tapes, Executor executor) {
+    return new BatchEvaluator(getEvaluatorPool(), EvaluationStrategy.DEPTH_FIRST, executor)
+            .evaluate(tapes);
+  }
+
+  /**
+   * Returns the pool of evaluators,
+   * compiling the automaton the
+   * first time it is requested and
+   * after the definition is modified.
+   *
+   * @return the pool of evaluators.
+   */
+  private EvaluatorPool getEvaluatorPool() {
+    CompiledPool compiled = compiledPool;
+    int modifications = modifications();
+    if (compiled == null || compiled.modifications != modifications) {
+      synchronized (this) {
+        compiled = compiledPool;
+        if (compiled == null || compiled.modifications != modifications) {
+          compiled = new CompiledPool(
+                  new EvaluatorPool(new CompiledAutomaton(this)), modifications);
+          compiledPool = compiled;
         }
       }
-      evaluationStack.pop();
     }
-    return false;
+    return compiled.pool;
+  }
+
+  /**
+   * Returns the number of modifications
+   * of the sets of the definition, which
+   * grows every time one of them changes.
+   *
+   * @return number of modifications.
+   */
+  private int modifications() {
+    return setOfStates.getModifications()
+            + inputAlphabet.getModifications()
+            + stackAlphabet.getModifications()
+            + acceptingStates.getModifications()
+            + transitionFunction.getModifications();
   }
 
   @Override
@@ -171,93 +305,19 @@ public class PushdownAutomaton {
             "δ : \n" + transitionFunction;
   }
 
-  private boolean evaluateTransition(PDATransition t) {
-    //TODO: Check if states are equals as transition.
-
-    currentEvaluationState = t.getNextStateNode();
-    if (!t.getCurrentStateSymbol().equals(Symbol.EMPTY_SYMBOL)) {
-      currentEvaluationTape.moveRight();
+  /**
+   * Pool of evaluators and the number
+   * of modifications of the definition
+   * it was compiled from, published
+   * together.
+   */
+  private static final class CompiledPool {
+    private final EvaluatorPool pool;
+    private final int modifications;
+
+    CompiledPool(EvaluatorPool pool, int modifications) {
+      this.pool = pool;
+      this.modifications = modifications;
     }
-    currentEvaluationStack.pop();
-    currentEvaluationStack.push(t.getNextStateStackSymbols());
-    if (evaluateIfCurrentStateIsAcceptance())
-      return true;
-    if (currentEvaluationStack.isEmpty()) {
-      if (isPrintable)
-        printCurrentState(t,null);
-      return false;
-    }
-
-    TreeSet<PDATransition> nextTransitions =
-            transitionFunction.getNextState(currentEvaluationState,
-                                            currentEvaluationTape.read(),
-                                            currentEvaluationStack.peek());
-    if (isPrintable)
-      printCurrentState(t, nextTransitions);
-    if (nextTransitions != null) {
-      evaluationStack.push(currentEvaluationState,
-                           currentEvaluationTape,
-                           currentEvaluationStack);
-      for (PDATransition transition : nextTransitions) {
-        if (evaluateTransition(transition)) {
-          return true;
-        } else {
-          restoreActualState();
-        }
-      }
-      evaluationStack.pop();
-      return false;
-    } else {
-      return evaluateIfCurrentStateIsAcceptance();
-    }
-  }
-
-  private void restoreActualState() {
-    currentEvaluationState = new State(evaluationStack.peekState());
-    currentEvaluationTape = new Tape(evaluationStack.peekTape());
-    currentEvaluationStack = new PDAStack(evaluationStack.peekStack());
-  }
-
-  private boolean evaluateIfCurrentStateIsAcceptance() {
-    if (currentEvaluationTape.hasReachedTheEnd()) {
-      return acceptingStates.contains(currentEvaluationState)
-              || currentEvaluationStack.isEmpty();
-    }
-    return false;
-  }
-
-  private String getFormat() {
-    return "| %-25s | %-5s | %-" + (tapeSize * 2 + 1) + "s | %-15s | ";
-  }
-
-  private void printCurrentState(Transition t,TreeSet<PDATransition> transitions) {
-    String printFormat = getFormat();
-    String currentState = String.format(printFormat,
-            t == null ? "-" : t.toString(),
-            currentEvaluationState,
-            currentEvaluationTape.toString(),
-            currentEvaluationStack.toString());
-    if (transitions != null) {
-      int index = 0;
-      for (PDATransition transition : transitions) {
-        currentState += transition + "  ";
-      }
-    } else {
-      currentState += evaluateIfCurrentStateIsAcceptance() ?
-              "ω ∈ L" : "ω ∉ L";
-    }
-
-    System.out.println(currentState);
-  }
-
-  private void printHeader() {
-    String format = getFormat();
-    int n = 69 + tapeSize * 2;
-
-    String header = String.join("", Collections.nCopies(n, "-")) + "\n";
-    header += String.format(getFormat(), "used transition", "state", "word (ω)", "stack");
-    header += "transitions\n";
-    header += String.join("", Collections.nCopies(n, "-"));
-    System.out.println(header);
   }
 }
@@ -5,14 +5,23 @@ import static org.junit.Assert.*;
 import org.javatuples.Tuple;
 import org.junit.Before;
 import org.junit.Test;
+import pushdown.evaluator.EvaluationStrategy;
+import pushdown.evaluator.Evaluator;
 import pushdown.reader.PDAReader;
+import pushdown.transition.PDATransition;
 import state.State;
 import symbol.Symbol;
 import tape.Tape;
 import tape.reader.TapeReader;
+import transition.SymbolList;
 
 import java.io.FileNotFoundException;
 import java.io.FileReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * <h2>PushdownAutomatonTest</h2>
@@ -33,20 +42,19 @@ public class PushdownAutomatonTest {
     reader = new PDAReader(new FileReader(fileName));
 
     pda = reader.getReadPDA();
-    pda.isPrintable = true;
 
     String tape1 = "a a b b";
     tapeReader = new TapeReader(tape1);
     tape = tapeReader.getReadTapes().get(0);
 
-    assertTrue(pda.evaluate(tape));
+    assertTrue(pda.trace(tape));
     System.out.println();
 
     String tape2 = "a a a b b";
     tapeReader = new TapeReader(tape2);
     tape = tapeReader.getReadTapes().get(0);
 
-    assertFalse(pda.evaluate(tape));
+    assertFalse(pda.trace(tape));
     System.out.println();
   }
 
@@ -56,20 +64,19 @@ public class PushdownAutomatonTest {
     reader = new PDAReader(new FileReader(fileName));
 
     pda = reader.getReadPDA();
-    pda.isPrintable = true;
 
     String tape1 = "a a b b";
     tapeReader = new TapeReader(tape1);
     tape = tapeReader.getReadTapes().get(0);
 
-    assertTrue(pda.evaluate(tape));
+    assertTrue(pda.trace(tape));
     System.out.println();
 
     String tape2 = "a a a b b";
     tapeReader = new TapeReader(tape2);
     tape = tapeReader.getReadTapes().get(0);
 
-    assertFalse(pda.evaluate(tape));
+    assertFalse(pda.trace(tape));
     System.out.println();
   }
 
@@ -79,20 +86,19 @@ public class PushdownAutomatonTest {
     reader = new PDAReader(new FileReader(fileName));
 
     pda = reader.getReadPDA();
-    pda.isPrintable = true;
 
     String tape1 = "a a b b";
     tapeReader = new TapeReader(tape1);
     tape = tapeReader.getReadTapes().get(0);
 
-    assertTrue(pda.evaluate(tape));
+    assertTrue(pda.trace(tape));
     System.out.println();
 
     String tape2 = "";
     tapeReader = new TapeReader(tape2);
     tape = tapeReader.getReadTapes().get(0);
 
-    assertTrue(pda.evaluate(tape));
+    assertTrue(pda.trace(tape));
     System.out.println();
   }
 
@@ -102,20 +108,19 @@ public class PushdownAutomatonTest {
     reader = new PDAReader(new FileReader(fileName));
 
     pda = reader.getReadPDA();
-    pda.isPrintable = true;
 
     String tape1 = "a a b b";
     tapeReader = new TapeReader(tape1);
     tape = tapeReader.getReadTapes().get(0);
 
-    assertTrue(pda.evaluate(tape));
+    assertTrue(pda.trace(tape));
     System.out.println();
 
     String tape2 = "";
     tapeReader = new TapeReader(tape2);
     tape = tapeReader.getReadTapes().get(0);
 
-    assertTrue(pda.evaluate(tape));
+    assertTrue(pda.trace(tape));
     System.out.println();
   }
 
@@ -125,20 +130,19 @@ public class PushdownAutomatonTest {
     reader = new PDAReader(new FileReader(fileName));
 
     pda = reader.getReadPDA();
-    pda.isPrintable = true;
 
     String tape1 = "a a b b";
     tapeReader = new TapeReader(tape1);
     tape = tapeReader.getReadTapes().get(0);
 
-    assertTrue(pda.evaluate(tape));
+    assertTrue(pda.trace(tape));
     System.out.println();
 
     String tape2 = "";
     tapeReader = new TapeReader(tape2);
     tape = tapeReader.getReadTapes().get(0);
 
-    assertTrue(pda.evaluate(tape));
+    assertTrue(pda.trace(tape));
     System.out.println();
   }
 
@@ -148,34 +152,94 @@ public class PushdownAutomatonTest {
     reader = new PDAReader(new FileReader(fileName));
 
     pda = reader.getReadPDA();
-    pda.isPrintable = true;
 
     String tape1 = "1 1 1 1";
     tapeReader = new TapeReader(tape1);
     tape = tapeReader.getReadTapes().get(0);
 
-    assertTrue(pda.evaluate(tape));
+    assertTrue(pda.trace(tape));
     System.out.println();
 
     String tape2 = "1 0 1 1";
     tapeReader = new TapeReader(tape2);
     tape = tapeReader.getReadTapes().get(0);
 
-    assertFalse(pda.evaluate(tape));
+    assertFalse(pda.trace(tape));
     System.out.println();
 
     String tape3 = "0 1 1 0";
     tapeReader = new TapeReader(tape3);
     tape = tapeReader.getReadTapes().get(0);
 
-    assertTrue(pda.evaluate(tape));
+    assertTrue(pda.trace(tape));
     System.out.println();
 
     String tape4 = "0 1 0";
     tapeReader = new TapeReader(tape4);
     tape = tapeReader.getReadTapes().get(0);
 
-    assertFalse(pda.evaluate(tape));
+    assertFalse(pda.trace(tape));
     System.out.println();
   }
+
+  @Test
+  public void concurrentEvaluationTest() throws Exception {
+    pda = new PDAReader(new FileReader("test/APf-2.txt")).getReadPDA();
+    List<Tape> tapes = new ArrayList<>();
+    for (int i = 0; i < 512; i++) {
+      List<Symbol> symbols = new ArrayList<>();
+      for (int bit = 0; bit < 9; bit++) {
+        symbols.add(new Symbol((i >> bit & 1) == 0 ? "0" : "1"));
+      }
+      // only half of the tapes are palindromes.
+      for (int bit = 8; bit >= i % 2; bit--) {
+        symbols.add(new Symbol((i >> bit & 1) == 0 ? "0" : "1"));
+      }
+      tapes.add(new Tape(symbols));
+    }
+    Evaluator expected = pda.newEvaluator(EvaluationStrategy.DEPTH_FIRST);
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 8 * tapes.size(); i++) {
+        Tape tapeToEvaluate = tapes.get(i % tapes.size());
+        EvaluationStrategy strategy = i % 3 == 0 ?
+                EvaluationStrategy.GRAPH_STRUCTURED_STACK : EvaluationStrategy.DEPTH_FIRST;
+        results.add(executor.submit(() -> pda.evaluate(tapeToEvaluate, strategy)));
+      }
+      for (int i = 0; i < results.size(); i++) {
+        Tape evaluated = tapes.get(i % tapes.size());
+        assertEquals(evaluated.toString(), i % 2 == 0, results.get(i).get());
+        assertEquals(evaluated.toString(), i % 2 == 0, expected.evaluate(evaluated));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void modifiedDefinitionTest() {
+    pda = new PDAReader(
+            "q f\n" +
+            "a\n" +
+            "S\n" +
+            "q\n" +
+            "S\n" +
+            "f\n" +
+            "q a S q S\n").getReadPDA();
+    Tape a = new TapeReader("a").getReadTapes().get(0);
+    assertFalse(pda.evaluate(a));
+
+    // the automaton is compiled again after each change.
+    SymbolList pushed = new SymbolList();
+    pushed.add(Symbol.valueOf("S"));
+    pda.getTransitionFunction().add(new PDATransition(State.valueOf("q"),
+            Symbol.valueOf("a"), Symbol.valueOf("S"), State.valueOf("f"), pushed));
+    assertTrue(pda.evaluate(a));
+    assertFalse(pda.evaluate(new Tape()));
+    pda.getAcceptingStates().add(State.valueOf("q"));
+    assertTrue(pda.evaluate(new Tape()));
+    assertSame(pda.compile(), pda.compile());
+  }
 }
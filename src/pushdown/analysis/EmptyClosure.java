@@ -0,0 +1,350 @@
+package pushdown.analysis;
+
+import pushdown.compiled.CompiledAutomaton;
+import pushdown.compiled.CompiledTransitionFunction;
+import pushdown.transition.PDATransition;
+import symbol.Symbol;
+import transition.SymbolList;
+import transition.Transition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <h2>EmptyClosure</h2>
+ *
+ * Configurations that a pushdown
+ * automaton reaches by empty transitions
+ * from a state with a symbol on the top
+ * of its stack, without looking below it.
+ *
+ * Each result is a state and the segment
+ * of symbols that replaces the top, which
+ * is empty when the top has been removed
+ * and the computation has to look below
+ * it to continue. The state itself with
+ * the same top is always a result.
+ *
+ * The closures give a transition function
+ * where each chain of empty transitions is
+ * applied in one step: a state and top
+ * with a closure has, for every result,
+ * the transitions that read input from
+ * the result, replacing the top by its
+ * segment first, and an empty transition
+ * to each result whose segment is empty.
+ * Closures with more than
+ * {@link #MAX_RESULTS} results or with a
+ * segment longer than {@link #MAX_SEGMENT}
+ * symbols, such as the ones of cycles that
+ * grow the stack, are not computed, and
+ * the state and top keep their own
+ * transitions. A computation on that
+ * function only needs to accept when its
+ * state and top can reach an accepting
+ * state by empty transitions, which is
+ * also known for each closure.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public final class EmptyClosure {
+
+  /**
+   * Maximum number of results
+   * of a closure.
+   */
+  public static final int MAX_RESULTS = 64;
+
+  /**
+   * Maximum number of symbols of
+   * the segment of a result.
+   */
+  public static final int MAX_SEGMENT = 16;
+
+  private final CompiledAutomaton automaton;
+  private final CompiledTransitionFunction table;
+  private final int stackSymbols;
+
+  /**
+   * States and segments of the results
+   * of each state and top, {@code null}
+   * if its closure is not computed.
+   * Segments are in the order their
+   * symbols are pushed.
+   */
+  private final int[][] resultStates;
+  private final int[][][] resultSegments;
+
+  /**
+   * If the closure of each state and
+   * top has an accepting state.
+   */
+  private final boolean[] accepting;
+
+  /**
+   * Transitions of each state and top.
+   */
+  private final List<List<Integer>> transitions = new ArrayList<>();
+
+  /**
+   * Transition function that applies
+   * the closures in one step, {@code null}
+   * until it is requested.
+   */
+  private CompiledTransitionFunction transitionFunction;
+
+  private EmptyClosure(CompiledAutomaton automaton) {
+    if (automaton == null)
+      throw new NullPointerException("automaton can not be null.");
+
+    this.automaton = automaton;
+    this.table = automaton.getTransitionFunction();
+    this.stackSymbols = automaton.numberOfStackSymbols();
+    int pairs = automaton.numberOfStates() * stackSymbols;
+    resultStates = new int[pairs][];
+    resultSegments = new int[pairs][][];
+    accepting = new boolean[pairs];
+
+    for (int pair = 0; pair < pairs; pair++) {
+      transitions.add(new ArrayList<>());
+    }
+    for (int t = 0; t < table.numberOfTransitions(); t++) {
+      transitions.get(table.currentState(t) * stackSymbols + table.stackSymbol(t)).add(t);
+    }
+    for (int pair = 0; pair < pairs; pair++) {
+      close(pair);
+    }
+  }
+
+  /**
+   * Computes the closures
+   * of the automaton.
+   *
+   * @param automaton to analyze.
+   * @return its closures.
+   * @throws NullPointerException if
+   *          automaton is {@code null}.
+   */
+  public static EmptyClosure of(CompiledAutomaton automaton) {
+    return new EmptyClosure(automaton);
+  }
+
+  /**
+   * Tests if the closure of state q
+   * with X on the top is computed.
+   *
+   * @param q state.
+   * @param x symbol on the top.
+   * @return {@code true} if it is.
+   */
+  public boolean isClosed(int q, int x) {
+    return resultStates[q * stackSymbols + x] != null;
+  }
+
+  /**
+   * Returns the number of results of
+   * the closure of state q with X on
+   * the top.
+   *
+   * @param q state.
+   * @param x symbol on the top.
+   * @return number of results, or 0 if
+   *          the closure is not computed.
+   */
+  public int numberOfResults(int q, int x) {
+    int[] states = resultStates[q * stackSymbols + x];
+    return states == null ? 0 : states.length;
+  }
+
+  /**
+   * Returns the state of a result of
+   * the closure of state q with X on
+   * the top.
+   *
+   * @param q state.
+   * @param x symbol on the top.
+   * @param i position of the result.
+   * @return the state of the result.
+   * @throws NullPointerException if the
+   *          closure is not computed.
+   */
+  public int resultState(int q, int x, int i) {
+    return resultStates[q * stackSymbols + x][i];
+  }
+
+  /**
+   * Returns the segment that replaces X
+   * on a result of the closure of state q
+   * with X on the top, in the order its
+   * symbols are pushed.
+   *
+   * @param q state.
+   * @param x symbol on the top.
+   * @param i position of the result.
+   * @return copy of the segment.
+   * @throws NullPointerException if the
+   *          closure is not computed.
+   */
+  public int[] resultSegment(int q, int x, int i) {
+    return resultSegments[q * stackSymbols + x][i].clone();
+  }
+
+  /**
+   * Tests if an accepting state is
+   * reached by the computed closure of
+   * state q with X on the top.
+   *
+   * @param q state.
+   * @param x symbol on the top.
+   * @return {@code true} if it is.
+   */
+  public boolean acceptsWithoutInput(int q, int x) {
+    return accepting[q * stackSymbols + x];
+  }
+
+  /**
+   * Returns the transition function where
+   * the closures are applied in one step,
+   * building it the first time it is
+   * requested.
+   *
+   * @return the transition function.
+   */
+  public synchronized CompiledTransitionFunction getTransitionFunction() {
+    if (transitionFunction == null)
+      transitionFunction = new CompiledTransitionFunction(automaton, closedTransitions());
+    return transitionFunction;
+  }
+
+  /**
+   * Finds the results of a state and top
+   * in breadth first order, leaving them
+   * unset if there are too many.
+   *
+   * @param pair state and top.
+   */
+  private void close(int pair) {
+    List<Integer> states = new ArrayList<>();
+    List<int[]> segments = new ArrayList<>();
+    Set<List<Integer>> found = new HashSet<>();
+    states.add(pair / stackSymbols);
+    segments.add(new int[]{pair % stackSymbols});
+    found.add(key(states.get(0), segments.get(0)));
+
+    for (int i = 0; i < states.size(); i++) {
+      int[] segment = segments.get(i);
+      if (segment.length == 0)
+        continue;
+      int top = segment[segment.length - 1];
+      for (int t : transitions.get(states.get(i) * stackSymbols + top)) {
+        if (table.consumesInput(t))
+          continue;
+        int pushed = table.pushEnd(t) - table.pushBegin(t);
+        int[] next = Arrays.copyOf(segment, segment.length - 1 + pushed);
+        for (int j = 0; j < pushed; j++) {
+          next[segment.length - 1 + j] = table.pushedSymbol(table.pushBegin(t) + j);
+        }
+        if (!found.add(key(table.nextState(t), next)))
+          continue;
+        if (next.length > MAX_SEGMENT || states.size() == MAX_RESULTS)
+          return;
+        states.add(table.nextState(t));
+        segments.add(next);
+      }
+    }
+
+    resultStates[pair] = new int[states.size()];
+    resultSegments[pair] = segments.toArray(new int[0][]);
+    for (int i = 0; i < states.size(); i++) {
+      resultStates[pair][i] = states.get(i);
+      accepting[pair] |= automaton.isAccepting(states.get(i));
+    }
+  }
+
+  private static List<Integer> key(int state, int[] segment) {
+    List<Integer> key = new ArrayList<>(segment.length + 1);
+    key.add(state);
+    for (int symbol : segment) {
+      key.add(symbol);
+    }
+    return key;
+  }
+
+  /**
+   * Builds the transitions that apply
+   * the closures, in the order of the
+   * results and of the transitions of
+   * the automaton.
+   *
+   * @return the transitions.
+   */
+  private Set<Transition> closedTransitions() {
+    Set<Transition> closed = new LinkedHashSet<>();
+    for (int pair = 0; pair < resultStates.length; pair++) {
+      int q = pair / stackSymbols;
+      int x = pair % stackSymbols;
+      if (resultStates[pair] == null) {
+        for (int t : transitions.get(pair)) {
+          closed.add(table.getTransition(t));
+        }
+        continue;
+      }
+
+      for (int i = 0; i < resultStates[pair].length; i++) {
+        int state = resultStates[pair][i];
+        int[] segment = resultSegments[pair][i];
+        if (segment.length == 0) {
+          closed.add(transition(q, CompiledAutomaton.EMPTY_SYMBOL_ID, x,
+                  state, segment, 0, -1));
+          continue;
+        }
+        for (int t : transitions.get(state * stackSymbols + segment[segment.length - 1])) {
+          if (table.consumesInput(t))
+            closed.add(transition(q, table.inputSymbol(t), x,
+                    table.nextState(t), segment, segment.length - 1, t));
+        }
+      }
+    }
+    return closed;
+  }
+
+  /**
+   * Creates a transition that replaces the
+   * top by the first symbols of a segment
+   * and then by the symbols pushed by
+   * another transition.
+   *
+   * @param length of the segment to push.
+   * @param t transition whose symbols are
+   *          pushed after the segment, or
+   *          -1 if there is none.
+   * @return the transition.
+   */
+  private PDATransition transition(int q, int input, int x, int next,
+                                   int[] segment, int length, int t) {
+    List<Integer> pushed = new ArrayList<>();
+    for (int i = 0; i < length; i++) {
+      pushed.add(segment[i]);
+    }
+    if (t != -1) {
+      for (int i = table.pushBegin(t); i < table.pushEnd(t); i++) {
+        pushed.add(table.pushedSymbol(i));
+      }
+    }
+
+    // the first symbol of the list ends on the top.
+    SymbolList symbols = new SymbolList();
+    for (int i = pushed.size() - 1; i >= 0; i--) {
+      symbols.add(automaton.getStackSymbol(pushed.get(i)));
+    }
+    if (symbols.isEmpty())
+      symbols.add(Symbol.EMPTY_SYMBOL);
+    return new PDATransition(automaton.getState(q), automaton.getInputSymbol(input),
+            automaton.getStackSymbol(x), automaton.getState(next), symbols);
+  }
+}
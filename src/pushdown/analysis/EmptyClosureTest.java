@@ -0,0 +1,105 @@
+package pushdown.analysis;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import pushdown.compiled.CompiledAutomaton;
+import pushdown.compiled.CompiledTransitionFunction;
+import pushdown.reader.PDAReader;
+import state.State;
+import symbol.Symbol;
+
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+
+/**
+ * <h2>EmptyClosureTest</h2>
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class EmptyClosureTest {
+
+  @Test
+  public void closureTest() throws FileNotFoundException {
+    CompiledAutomaton automaton =
+            new PDAReader(new FileReader("test/APf-2.txt")).getReadPDA().compile();
+    EmptyClosure closure = automaton.getEmptyClosure();
+    int p = automaton.stateId(State.valueOf("p"));
+    int q = automaton.stateId(State.valueOf("q"));
+    int zero = automaton.stackSymbolId(Symbol.valueOf("0"));
+    int stackS = automaton.stackSymbolId(Symbol.valueOf("S"));
+
+    assertTrue(closure.isClosed(p, zero));
+    assertEquals(2, closure.numberOfResults(p, zero));
+    assertEquals(p, closure.resultState(p, zero, 0));
+    assertEquals(q, closure.resultState(p, zero, 1));
+    assertArrayEquals(new int[]{zero}, closure.resultSegment(p, zero, 1));
+
+    // r is reached from q with S without input.
+    assertTrue(closure.acceptsWithoutInput(q, stackS));
+    assertFalse(closure.acceptsWithoutInput(q, zero));
+  }
+
+  @Test
+  public void oneStepTest() throws FileNotFoundException {
+    CompiledAutomaton automaton =
+            new PDAReader(new FileReader("test/APf-2.txt")).getReadPDA().compile();
+    CompiledTransitionFunction table = automaton.getEmptyClosure().getTransitionFunction();
+
+    // every guess of the middle is merged with the next read.
+    for (int t = 0; t < table.numberOfTransitions(); t++) {
+      assertTrue(table.getTransition(t).toString(), table.consumesInput(t));
+    }
+  }
+
+  @Test
+  public void segmentTest() {
+    CompiledAutomaton automaton = new PDAReader(
+            "q p r f\n" +
+            "a\n" +
+            "S A\n" +
+            "q\n" +
+            "S\n" +
+            "f\n" +
+            "q . S p A S\n" +
+            "p . A r .\n" +
+            "r a S f S\n").getReadPDA().compile();
+    EmptyClosure closure = automaton.getEmptyClosure();
+    int q = automaton.stateId(State.valueOf("q"));
+    int stackS = automaton.stackSymbolId(Symbol.valueOf("S"));
+    int stackA = automaton.stackSymbolId(Symbol.valueOf("A"));
+
+    assertEquals(3, closure.numberOfResults(q, stackS));
+    assertArrayEquals(new int[]{stackS, stackA}, closure.resultSegment(q, stackS, 1));
+    assertEquals(automaton.stateId(State.valueOf("r")), closure.resultState(q, stackS, 2));
+    assertArrayEquals(new int[]{stackS}, closure.resultSegment(q, stackS, 2));
+
+    // the pop of p with A is applied with the push.
+    CompiledTransitionFunction table = closure.getTransitionFunction();
+    int row = table.row(q, automaton.inputSymbolId(Symbol.valueOf("a")), stackS);
+    assertEquals(1, table.rowEnd(row) - table.rowBegin(row));
+    assertEquals(automaton.stateId(State.valueOf("f")),
+            table.nextState(table.transitionAt(table.rowBegin(row))));
+  }
+
+  @Test
+  public void growingCycleTest() {
+    CompiledAutomaton automaton = new PDAReader(
+            "q\n" +
+            "a\n" +
+            "S\n" +
+            "q\n" +
+            "S\n" +
+            "q\n" +
+            "q . S q S S\n").getReadPDA().compile();
+    EmptyClosure closure = automaton.getEmptyClosure();
+    assertFalse(closure.isClosed(automaton.getInitialState(), automaton.getInitialStackSymbol()));
+    assertEquals(1, closure.getTransitionFunction().numberOfTransitions());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void nullAutomatonTest() {
+    EmptyClosure.of(null);
+  }
+}
@@ -0,0 +1,300 @@
+package pushdown.analysis;
+
+import pushdown.compiled.CompiledAutomaton;
+import pushdown.compiled.CompiledTransitionFunction;
+
+import java.util.Arrays;
+
+/**
+ * <h2>EmptyCycles</h2>
+ *
+ * Cycles of empty transitions of a
+ * pushdown automaton, the ones that can
+ * be followed forever without reading
+ * any input.
+ *
+ * Cycles are found on a graph whose
+ * vertices are a state and the symbol on
+ * the top of the stack. An empty
+ * transition from q with X on the top
+ * goes to its next state with the symbol
+ * it pushes on the top, and also to the
+ * states where each symbol below it is
+ * reached again after the symbols above
+ * are removed by empty transitions. Each
+ * edge changes the height of the stack
+ * by the symbols that remain, never less
+ * than zero, so a cycle of the graph is
+ * either stack neutral, when it always
+ * comes back at the same height, or it
+ * grows the stack each time it is
+ * followed. Transitions that push nothing
+ * reveal an unknown symbol and are not
+ * edges of the graph: states on cycles
+ * of them are shrinking, since those
+ * cycles end once the stack is empty.
+ *
+ * Any endless computation without input
+ * visits forever a vertex on a neutral or
+ * growing cycle, always with the symbols
+ * below its top untouched.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public final class EmptyCycles {
+
+  /**
+   * Kind of the cycles through a
+   * state and top symbol.
+   */
+  public enum Kind {
+    /** No cycle of empty transitions. */
+    NONE,
+    /** Cycles that remove symbols. */
+    SHRINKING,
+    /** Cycles that keep the height of the stack. */
+    NEUTRAL,
+    /** Cycles that push new symbols. */
+    GROWING
+  }
+
+  private final int stackSymbols;
+
+  /**
+   * Kind of each state and top symbol.
+   */
+  private final Kind[] kinds;
+
+  private boolean cyclic;
+
+  private EmptyCycles(CompiledAutomaton automaton) {
+    if (automaton == null)
+      throw new NullPointerException("automaton can not be null.");
+
+    CompiledTransitionFunction table = automaton.getTransitionFunction();
+    PopSummary summary = automaton.getEmptyTransitionSummary();
+    int states = automaton.numberOfStates();
+    this.stackSymbols = automaton.numberOfStackSymbols();
+    int vertices = states * stackSymbols;
+
+    // edges of the graph of tops, with their growth.
+    int[] from = new int[16];
+    int[] to = new int[16];
+    int[] growth = new int[16];
+    int edges = 0;
+    // edges between states of transitions that push nothing.
+    int[] popFrom = new int[16];
+    int[] popTo = new int[16];
+    int pops = 0;
+
+    for (int t = 0; t < table.numberOfTransitions(); t++) {
+      if (table.consumesInput(t))
+        continue;
+      int q = table.currentState(t);
+      int vertex = q * stackSymbols + table.stackSymbol(t);
+      int k = table.pushEnd(t) - table.pushBegin(t);
+      if (k == 0) {
+        if (pops == popFrom.length) {
+          popFrom = Arrays.copyOf(popFrom, pops * 2);
+          popTo = Arrays.copyOf(popTo, pops * 2);
+        }
+        popFrom[pops] = q;
+        popTo[pops] = table.nextState(t);
+        pops += 1;
+        continue;
+      }
+
+      boolean[] reached = new boolean[states];
+      reached[table.nextState(t)] = true;
+      for (int m = 1; m <= k; m++) {
+        int y = table.pushedSymbol(table.pushEnd(t) - m);
+        boolean[] next = new boolean[states];
+        for (int s = 0; s < states; s++) {
+          if (!reached[s])
+            continue;
+          if (edges == from.length) {
+            from = Arrays.copyOf(from, edges * 2);
+            to = Arrays.copyOf(to, edges * 2);
+            growth = Arrays.copyOf(growth, edges * 2);
+          }
+          from[edges] = vertex;
+          to[edges] = s * stackSymbols + y;
+          growth[edges] = k - m;
+          edges += 1;
+          for (int p = 0; m < k && p < states; p++) {
+            next[p] |= summary.pops(s, y, p);
+          }
+        }
+        reached = next;
+      }
+    }
+
+    kinds = new Kind[vertices];
+    Arrays.fill(kinds, Kind.NONE);
+
+    int[] statesComponent = components(states, popFrom, popTo, pops);
+    for (int e = 0; e < pops; e++) {
+      if (statesComponent[popFrom[e]] == statesComponent[popTo[e]]) {
+        cyclic = true;
+        for (int x = 0; x < stackSymbols; x++) {
+          kinds[popFrom[e] * stackSymbols + x] = Kind.SHRINKING;
+        }
+      }
+    }
+
+    int[] component = components(vertices, from, to, edges);
+    boolean[] neutral = new boolean[vertices];
+    boolean[] growing = new boolean[vertices];
+    for (int e = 0; e < edges; e++) {
+      int c = component[from[e]];
+      if (c == component[to[e]]) {
+        cyclic = true;
+        if (growth[e] > 0)
+          growing[c] = true;
+        else
+          neutral[c] = true;
+      }
+    }
+    for (int v = 0; v < vertices; v++) {
+      if (growing[component[v]])
+        kinds[v] = Kind.GROWING;
+      else if (neutral[component[v]])
+        kinds[v] = Kind.NEUTRAL;
+    }
+  }
+
+  /**
+   * Finds the empty cycles
+   * of the automaton.
+   *
+   * @param automaton to analyze.
+   * @return its cycles.
+   * @throws NullPointerException if
+   *          automaton is {@code null}.
+   */
+  public static EmptyCycles of(CompiledAutomaton automaton) {
+    return new EmptyCycles(automaton);
+  }
+
+  /**
+   * Tests if the automaton has any
+   * cycle of empty transitions.
+   *
+   * @return {@code true} if it has.
+   */
+  public boolean hasCycles() {
+    return cyclic;
+  }
+
+  /**
+   * Returns the kind of the cycles through
+   * state q with X on the top of the stack.
+   * When there are cycles of several kinds,
+   * growing is returned before neutral, and
+   * neutral before shrinking.
+   *
+   * @param q state.
+   * @param x symbol on the top.
+   * @return the kind of its cycles.
+   */
+  public Kind kind(int q, int x) {
+    return kinds[q * stackSymbols + x];
+  }
+
+  /**
+   * Tests if state q with X on the top
+   * can be reached again by empty
+   * transitions with the same symbols
+   * below X, that is, if it is on a
+   * neutral or growing cycle.
+   *
+   * @param q state.
+   * @param x symbol on the top.
+   * @return {@code true} if it can.
+   */
+  public boolean isRepeating(int q, int x) {
+    Kind kind = kinds[q * stackSymbols + x];
+    return kind == Kind.NEUTRAL || kind == Kind.GROWING;
+  }
+
+  /**
+   * Finds the strongly connected components
+   * of a graph, with the algorithm of Tarjan
+   * on an explicit stack.
+   *
+   * @param vertices number of vertices.
+   * @param from origin of each edge.
+   * @param to destination of each edge.
+   * @param edges number of edges.
+   * @return the component of each vertex.
+   */
+  private static int[] components(int vertices, int[] from, int[] to, int edges) {
+    int[] first = new int[vertices + 1];
+    for (int e = 0; e < edges; e++) {
+      first[from[e] + 1] += 1;
+    }
+    for (int v = 0; v < vertices; v++) {
+      first[v + 1] += first[v];
+    }
+    int[] adjacent = new int[edges];
+    int[] filled = Arrays.copyOf(first, vertices);
+    for (int e = 0; e < edges; e++) {
+      adjacent[filled[from[e]]++] = to[e];
+    }
+
+    int[] index = new int[vertices];
+    int[] low = new int[vertices];
+    int[] component = new int[vertices];
+    boolean[] onStack = new boolean[vertices];
+    Arrays.fill(index, -1);
+    int[] stack = new int[vertices];
+    int stackSize = 0;
+    int[] path = new int[vertices];
+    int[] nextEdge = new int[vertices];
+    int counter = 0;
+    int components = 0;
+
+    for (int root = 0; root < vertices; root++) {
+      if (index[root] != -1)
+        continue;
+      int depth = 0;
+      path[depth++] = root;
+      index[root] = low[root] = counter++;
+      nextEdge[root] = first[root];
+      stack[stackSize++] = root;
+      onStack[root] = true;
+
+      while (depth > 0) {
+        int v = path[depth - 1];
+        if (nextEdge[v] < first[v + 1]) {
+          int w = adjacent[nextEdge[v]++];
+          if (index[w] == -1) {
+            index[w] = low[w] = counter++;
+            nextEdge[w] = first[w];
+            stack[stackSize++] = w;
+            onStack[w] = true;
+            path[depth++] = w;
+          } else if (onStack[w]) {
+            low[v] = Math.min(low[v], index[w]);
+          }
+          continue;
+        }
+
+        depth -= 1;
+        if (depth > 0)
+          low[path[depth - 1]] = Math.min(low[path[depth - 1]], low[v]);
+        if (low[v] == index[v]) {
+          int w;
+          do {
+            w = stack[--stackSize];
+            onStack[w] = false;
+            component[w] = components;
+          } while (w != v);
+          components += 1;
+        }
+      }
+    }
+    return component;
+  }
+}
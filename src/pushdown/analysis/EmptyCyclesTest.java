@@ -0,0 +1,83 @@
+package pushdown.analysis;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import pushdown.compiled.CompiledAutomaton;
+import pushdown.reader.PDAReader;
+import state.State;
+import symbol.Symbol;
+
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+
+/**
+ * <h2>EmptyCyclesTest</h2>
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class EmptyCyclesTest {
+
+  @Test
+  public void noCyclesTest() throws FileNotFoundException {
+    CompiledAutomaton automaton =
+            new PDAReader(new FileReader("test/AP2.txt")).getReadPDA().compile();
+    EmptyCycles cycles = automaton.getEmptyCycles();
+    assertFalse(cycles.hasCycles());
+    assertEquals(EmptyCycles.Kind.NONE, cycles.kind(
+            automaton.stateId(State.valueOf("q")), automaton.stackSymbolId(Symbol.valueOf("S"))));
+  }
+
+  @Test
+  public void kindTest() {
+    CompiledAutomaton automaton = new PDAReader(
+            "g n m s f\n" +
+            "a\n" +
+            "S A\n" +
+            "g\n" +
+            "S\n" +
+            "f\n" +
+            "g . S g S S\n" +
+            "g a S n S\n" +
+            "n . S m S\n" +
+            "m . S n S\n" +
+            "m a S s A A\n" +
+            "s . A s .\n").getReadPDA().compile();
+    EmptyCycles cycles = automaton.getEmptyCycles();
+    int stackS = automaton.stackSymbolId(Symbol.valueOf("S"));
+    int stackA = automaton.stackSymbolId(Symbol.valueOf("A"));
+
+    assertTrue(cycles.hasCycles());
+    assertEquals(EmptyCycles.Kind.GROWING, cycles.kind(automaton.stateId(State.valueOf("g")), stackS));
+    assertEquals(EmptyCycles.Kind.NEUTRAL, cycles.kind(automaton.stateId(State.valueOf("n")), stackS));
+    assertEquals(EmptyCycles.Kind.NEUTRAL, cycles.kind(automaton.stateId(State.valueOf("m")), stackS));
+    assertEquals(EmptyCycles.Kind.SHRINKING, cycles.kind(automaton.stateId(State.valueOf("s")), stackA));
+    assertEquals(EmptyCycles.Kind.NONE, cycles.kind(automaton.stateId(State.valueOf("f")), stackS));
+    assertTrue(cycles.isRepeating(automaton.stateId(State.valueOf("n")), stackS));
+    assertFalse(cycles.isRepeating(automaton.stateId(State.valueOf("s")), stackA));
+  }
+
+  @Test
+  public void hiddenCycleTest() {
+    // the pushed A is removed before q
+    // is reached again with S on the top.
+    CompiledAutomaton automaton = new PDAReader(
+            "q p\n" +
+            "a\n" +
+            "S A\n" +
+            "q\n" +
+            "S\n" +
+            "q\n" +
+            "q . S p A S S\n" +
+            "p . A q .\n").getReadPDA().compile();
+    EmptyCycles cycles = automaton.getEmptyCycles();
+    assertEquals(EmptyCycles.Kind.GROWING, cycles.kind(
+            automaton.stateId(State.valueOf("q")), automaton.stackSymbolId(Symbol.valueOf("S"))));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void nullAutomatonTest() {
+    EmptyCycles.of(null);
+  }
+}
@@ -0,0 +1,250 @@
+package pushdown.analysis;
+
+import pushdown.compiled.CompiledAutomaton;
+import pushdown.compiled.CompiledTransitionFunction;
+
+import java.util.Arrays;
+
+/**
+ * <h2>InputBound</h2>
+ *
+ * Lower bound of the input that a
+ * pushdown automaton needs to read to
+ * accept, from a state with a symbol on
+ * the top of its stack.
+ *
+ * An accepting computation from state q
+ * with X on the top either reaches an
+ * accepting state before X is removed,
+ * or removes X and may then find the
+ * stack empty. So the bound of q and X
+ * is the minimum input needed for any
+ * of both, and when neither can happen
+ * no configuration with q and X on the
+ * top can lead to acceptance.
+ *
+ * Both minimums are found by saturation
+ * over the transitions, counting one for
+ * each transition that consumes input.
+ * The state where a pushed symbol is
+ * reached is only known for the symbol
+ * on the top. A symbol below it is only
+ * reached again when the symbol above is
+ * removed by a transition that pushes
+ * nothing, so for it the minimum over
+ * the next states of those transitions
+ * is used, which keeps the bound sound
+ * and its memory linear in the number
+ * of states.
+ *
+ * The same minimums give a bound for a
+ * whole stack, built from the bottom:
+ * each symbol needs either the input to
+ * accept before it is removed, or the
+ * input to remove it plus the bound of
+ * the stack below.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public final class InputBound {
+
+  /**
+   * Bound of the configurations from
+   * which no accepting configuration
+   * can be reached.
+   */
+  public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+  private final CompiledTransitionFunction table;
+  private final int states;
+  private final int stackSymbols;
+
+  /**
+   * States reached when a symbol is
+   * removed without pushing any other.
+   */
+  private final boolean[] revealing;
+
+  /**
+   * Minimum input to remove X from q,
+   * and over every revealing state.
+   */
+  private final int[] popCost;
+  private final int[] popFloor;
+
+  /**
+   * Minimum input to reach an accepting
+   * state from q without removing X,
+   * and over every revealing state.
+   */
+  private final int[] acceptCost;
+  private final int[] acceptFloor;
+
+  private InputBound(CompiledAutomaton automaton) {
+    if (automaton == null)
+      throw new NullPointerException("automaton can not be null.");
+
+    this.table = automaton.getTransitionFunction();
+    this.states = automaton.numberOfStates();
+    this.stackSymbols = automaton.numberOfStackSymbols();
+    popCost = new int[states * stackSymbols];
+    popFloor = new int[stackSymbols];
+    acceptCost = new int[states * stackSymbols];
+    acceptFloor = new int[stackSymbols];
+    Arrays.fill(popCost, UNREACHABLE);
+    Arrays.fill(popFloor, UNREACHABLE);
+    Arrays.fill(acceptCost, UNREACHABLE);
+    Arrays.fill(acceptFloor, UNREACHABLE);
+
+    revealing = new boolean[states];
+    for (int t = 0; t < table.numberOfTransitions(); t++) {
+      if (table.pushBegin(t) == table.pushEnd(t))
+        revealing[table.nextState(t)] = true;
+    }
+    for (int q = 0; q < states; q++) {
+      if (automaton.isAccepting(q)) {
+        for (int x = 0; x < stackSymbols; x++) {
+          acceptCost[q * stackSymbols + x] = 0;
+          if (revealing[q])
+            acceptFloor[x] = 0;
+        }
+      }
+    }
+    saturate();
+  }
+
+  /**
+   * Computes the bound of
+   * the automaton.
+   *
+   * @param automaton to analyze.
+   * @return the bound.
+   * @throws NullPointerException if
+   *          automaton is {@code null}.
+   */
+  public static InputBound of(CompiledAutomaton automaton) {
+    return new InputBound(automaton);
+  }
+
+  /**
+   * Returns the minimum number of input
+   * symbols that must be read to accept
+   * from state q with X on the top of
+   * the stack.
+   *
+   * @param q state.
+   * @param x symbol on the top.
+   * @return the bound, or {@link #UNREACHABLE}
+   *          if it can not accept.
+   */
+  public int minimumInput(int q, int x) {
+    int i = q * stackSymbols + x;
+    return Math.min(popCost[i], acceptCost[i]);
+  }
+
+  /**
+   * Returns the minimum number of input
+   * symbols that must be read to accept
+   * from state q with X on the top of a
+   * stack, knowing the bound of the
+   * symbols below X.
+   *
+   * @param q state.
+   * @param x symbol on the top.
+   * @param below bound of the stack below X,
+   *              0 if it is empty.
+   * @return the bound, or {@link #UNREACHABLE}
+   *          if it can not accept.
+   */
+  public int minimumInput(int q, int x, int below) {
+    int i = q * stackSymbols + x;
+    return Math.min(acceptCost[i], add(popCost[i], below));
+  }
+
+  /**
+   * Returns the bound of a stack with X
+   * on the top, that is reached again
+   * after removing the symbols above it
+   * on an unknown state.
+   *
+   * @param x symbol on the top.
+   * @param below bound of the stack below X,
+   *              0 if it is empty.
+   * @return the bound, or {@link #UNREACHABLE}
+   *          if it can not accept.
+   */
+  public int stackBound(int x, int below) {
+    return Math.min(acceptFloor[x], add(popFloor[x], below));
+  }
+
+  /**
+   * Tests if an accepting configuration
+   * can be reached from state q with X
+   * on the top of the stack.
+   *
+   * @param q state.
+   * @param x symbol on the top.
+   * @return {@code true} if it can.
+   */
+  public boolean canAccept(int q, int x) {
+    return minimumInput(q, x) != UNREACHABLE;
+  }
+
+  /**
+   * Returns the minimum number of input
+   * symbols that must be read to remove
+   * X from the top of the stack, starting
+   * on state q.
+   *
+   * @param q state.
+   * @param x symbol on the top.
+   * @return the bound, or {@link #UNREACHABLE}
+   *          if X can not be removed.
+   */
+  public int minimumInputToPop(int q, int x) {
+    return popCost[q * stackSymbols + x];
+  }
+
+  private static int add(int a, int b) {
+    return a == UNREACHABLE || b == UNREACHABLE ? UNREACHABLE : a + b;
+  }
+
+  private void saturate() {
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (int t = 0; t < table.numberOfTransitions(); t++) {
+        int i = table.currentState(t) * stackSymbols + table.stackSymbol(t);
+        int x = table.stackSymbol(t);
+        int next = table.nextState(t);
+        int consumed = table.consumesInput(t) ? 1 : 0;
+
+        // pushed symbols from the top, where the state is known.
+        int pop = consumed;
+        int accept = UNREACHABLE;
+        for (int j = table.pushEnd(t) - 1; j >= table.pushBegin(t); j--) {
+          int y = table.pushedSymbol(j);
+          boolean top = j == table.pushEnd(t) - 1;
+          int acceptHere = top ? acceptCost[next * stackSymbols + y] : acceptFloor[y];
+          accept = Math.min(accept, add(pop, acceptHere));
+          pop = add(pop, top ? popCost[next * stackSymbols + y] : popFloor[y]);
+        }
+
+        boolean floor = revealing[table.currentState(t)];
+        if (pop < popCost[i]) {
+          popCost[i] = pop;
+          if (floor)
+            popFloor[x] = Math.min(popFloor[x], pop);
+          changed = true;
+        }
+        if (accept < acceptCost[i]) {
+          acceptCost[i] = accept;
+          if (floor)
+            acceptFloor[x] = Math.min(acceptFloor[x], accept);
+          changed = true;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package pushdown.analysis;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import pushdown.compiled.CompiledAutomaton;
+import pushdown.reader.PDAReader;
+import state.State;
+import symbol.Symbol;
+
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+
+/**
+ * <h2>InputBoundTest</h2>
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class InputBoundTest {
+
+  @Test
+  public void minimumInputTest() throws FileNotFoundException {
+    CompiledAutomaton automaton =
+            new PDAReader(new FileReader("test/AP2.txt")).getReadPDA().compile();
+    InputBound bound = automaton.getInputBound();
+    int p = automaton.stateId(State.valueOf("p"));
+    int q = automaton.stateId(State.valueOf("q"));
+    int s = automaton.stateId(State.valueOf("s"));
+    int stackS = automaton.stackSymbolId(Symbol.valueOf("S"));
+    int stackA = automaton.stackSymbolId(Symbol.valueOf("A"));
+
+    // the shortest word of the language is a b.
+    assertEquals(2, bound.minimumInput(p, stackS));
+    assertEquals(1, bound.minimumInput(p, stackA));
+    assertEquals(1, bound.minimumInputToPop(q, stackA));
+    assertEquals(0, bound.minimumInput(q, stackS));
+    assertEquals(0, bound.minimumInput(s, stackS));
+    assertEquals(InputBound.UNREACHABLE, bound.minimumInputToPop(p, stackS));
+  }
+
+  @Test
+  public void stackBoundTest() throws FileNotFoundException {
+    CompiledAutomaton automaton =
+            new PDAReader(new FileReader("test/AP2.txt")).getReadPDA().compile();
+    InputBound bound = automaton.getInputBound();
+    int p = automaton.stateId(State.valueOf("p"));
+    int stackS = automaton.stackSymbolId(Symbol.valueOf("S"));
+    int stackA = automaton.stackSymbolId(Symbol.valueOf("A"));
+
+    // every A below the top needs its own b.
+    int below = bound.stackBound(stackS, 0);
+    assertEquals(0, below);
+    for (int height = 1; height <= 10; height++) {
+      assertEquals(height, bound.minimumInput(p, stackA, below));
+      below = bound.stackBound(stackA, below);
+    }
+  }
+
+  @Test
+  public void deadConfigurationTest() {
+    CompiledAutomaton automaton = new PDAReader(
+            "q d f\n" +
+            "a b\n" +
+            "S\n" +
+            "q\n" +
+            "S\n" +
+            "f\n" +
+            "q a S d S\n" +
+            "d a S d S\n" +
+            "q b S f S\n").getReadPDA().compile();
+    InputBound bound = automaton.getInputBound();
+    int stackS = automaton.stackSymbolId(Symbol.valueOf("S"));
+
+    assertFalse(bound.canAccept(automaton.stateId(State.valueOf("d")), stackS));
+    assertTrue(bound.canAccept(automaton.stateId(State.valueOf("q")), stackS));
+    assertEquals(1, bound.minimumInput(automaton.stateId(State.valueOf("q")), stackS));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void nullAutomatonTest() {
+    InputBound.of(null);
+  }
+}
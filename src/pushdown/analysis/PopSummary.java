@@ -0,0 +1,199 @@
+package pushdown.analysis;
+
+import pushdown.compiled.CompiledAutomaton;
+import pushdown.compiled.CompiledTransitionFunction;
+
+/**
+ * <h2>PopSummary</h2>
+ *
+ * Summary of what a pushdown automaton
+ * can do with a symbol on the top of
+ * its stack, ignoring the input that
+ * is read.
+ *
+ * It tells if, from state q with X on
+ * the top, the automaton can remove X
+ * arriving at state p, and if it can
+ * reach an accepting state without
+ * removing X. Both relations are found
+ * by saturation: they are applied to
+ * the transitions until nothing new is
+ * found.
+ *
+ * The summary can be restricted to the
+ * empty transitions, which gives the
+ * moves that need no input at all.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public final class PopSummary {
+
+  private final CompiledTransitionFunction table;
+  private final int states;
+  private final int stackSymbols;
+  private final boolean emptyOnly;
+
+  /**
+   * From q with X on the top, X can
+   * be removed arriving at p.
+   */
+  private final boolean[] pops;
+
+  /**
+   * From q with X on the top, an accepting
+   * state is reached without removing X.
+   */
+  private final boolean[] acceptsInside;
+
+  private PopSummary(CompiledAutomaton automaton, boolean emptyOnly) {
+    if (automaton == null)
+      throw new NullPointerException("automaton can not be null.");
+
+    this.table = automaton.getTransitionFunction();
+    this.states = automaton.numberOfStates();
+    this.stackSymbols = automaton.numberOfStackSymbols();
+    this.emptyOnly = emptyOnly;
+    pops = new boolean[states * stackSymbols * states];
+    acceptsInside = new boolean[states * stackSymbols];
+
+    computePops();
+    for (int q = 0; q < states; q++) {
+      for (int x = 0; x < stackSymbols; x++) {
+        acceptsInside[q * stackSymbols + x] = automaton.isAccepting(q);
+      }
+    }
+    computeAcceptsInside();
+  }
+
+  /**
+   * Computes the summary of
+   * every transition.
+   *
+   * @param automaton to summarize.
+   * @return the summary.
+   * @throws NullPointerException if
+   *          automaton is {@code null}.
+   */
+  public static PopSummary of(CompiledAutomaton automaton) {
+    return new PopSummary(automaton, false);
+  }
+
+  /**
+   * Computes the summary of the
+   * empty transitions.
+   *
+   * @param automaton to summarize.
+   * @return the summary.
+   * @throws NullPointerException if
+   *          automaton is {@code null}.
+   */
+  public static PopSummary ofEmptyTransitions(CompiledAutomaton automaton) {
+    return new PopSummary(automaton, true);
+  }
+
+  /**
+   * Tests if from state q with X on the top
+   * of the stack, the automaton can remove
+   * X arriving at state p.
+   *
+   * @param q initial state.
+   * @param x symbol on the top.
+   * @param p state after removing it.
+   * @return {@code true} if it can.
+   */
+  public boolean pops(int q, int x, int p) {
+    return pops[(q * stackSymbols + x) * states + p];
+  }
+
+  /**
+   * Tests if from state q with X on the top
+   * of the stack, the automaton can reach an
+   * accepting state without removing X.
+   *
+   * @param q initial state.
+   * @param x symbol on the top.
+   * @return {@code true} if it can.
+   */
+  public boolean acceptsInside(int q, int x) {
+    return acceptsInside[q * stackSymbols + x];
+  }
+
+  /**
+   * Computes, for each symbol pushed by the
+   * transition and each state s, if from s
+   * with the symbols from the m-th (counted
+   * from the top) to the bottom one on the
+   * stack, an accepting state can be reached
+   * without removing all of them.
+   *
+   * @param t transition.
+   * @return the chains indexed by m and s.
+   */
+  public boolean[][] acceptChains(int t) {
+    int k = table.pushEnd(t) - table.pushBegin(t);
+    boolean[][] accepting = new boolean[k + 1][states];
+    for (int m = k; m >= 1; m--) {
+      int y = table.pushedSymbol(table.pushEnd(t) - m);
+      for (int s = 0; s < states; s++) {
+        accepting[m][s] = acceptsInside(s, y);
+        for (int middle = 0; m < k && !accepting[m][s] && middle < states; middle++) {
+          accepting[m][s] = pops(s, y, middle) && accepting[m + 1][middle];
+        }
+      }
+    }
+    return accepting;
+  }
+
+  private boolean isUsed(int t) {
+    return !emptyOnly || !table.consumesInput(t);
+  }
+
+  private void computePops() {
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (int t = 0; t < table.numberOfTransitions(); t++) {
+        if (!isUsed(t))
+          continue;
+        int q = table.currentState(t);
+        int x = table.stackSymbol(t);
+        boolean[] reached = new boolean[states];
+        reached[table.nextState(t)] = true;
+        for (int i = table.pushEnd(t) - 1; i >= table.pushBegin(t); i--) {
+          int y = table.pushedSymbol(i);
+          boolean[] next = new boolean[states];
+          for (int from = 0; from < states; from++) {
+            for (int to = 0; reached[from] && to < states; to++) {
+              next[to] |= pops(from, y, to);
+            }
+          }
+          reached = next;
+        }
+        for (int p = 0; p < states; p++) {
+          if (reached[p] && !pops(q, x, p)) {
+            pops[(q * stackSymbols + x) * states + p] = true;
+            changed = true;
+          }
+        }
+      }
+    }
+  }
+
+  private void computeAcceptsInside() {
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (int t = 0; t < table.numberOfTransitions(); t++) {
+        if (!isUsed(t) || table.pushBegin(t) == table.pushEnd(t))
+          continue;
+        int q = table.currentState(t);
+        int x = table.stackSymbol(t);
+        if (!acceptsInside(q, x) && acceptChains(t)[1][table.nextState(t)]) {
+          acceptsInside[q * stackSymbols + x] = true;
+          changed = true;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,438 @@
+package pushdown.compiled;
+
+import pushdown.PushdownAutomaton;
+import pushdown.analysis.EmptyClosure;
+import pushdown.analysis.EmptyCycles;
+import pushdown.analysis.InputBound;
+import pushdown.analysis.PopSummary;
+import pushdown.grammar.ChomskyNormalForm;
+import pushdown.grammar.ContextFreeGrammar;
+import pushdown.grammar.GrammarTranslator;
+import pushdown.transition.PDATransition;
+import state.State;
+import symbol.Symbol;
+import transition.Transition;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <h2>CompiledAutomaton</h2>
+ *
+ * Frozen version of a pushdown
+ * automaton where states and
+ * symbols are replaced by
+ * integer identifiers.
+ *
+ * States and stack symbols are
+ * numbered from zero. Input symbols
+ * are numbered from one, because
+ * the identifier zero is reserved
+ * for the empty symbol, which is
+ * also the symbol read when the
+ * whole input has been consumed.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class CompiledAutomaton {
+
+  /**
+   * Identifier of the empty
+   * input symbol.
+   */
+  public static final int EMPTY_SYMBOL_ID = 0;
+
+  /**
+   * Value returned when an element
+   * is not known by the automaton.
+   */
+  public static final int UNKNOWN_ID = -1;
+
+  /**
+   * Elements indexed by identifier.
+   */
+  private final State[] states;
+  private final Symbol[] inputSymbols;
+  private final Symbol[] stackSymbols;
+
+  /**
+   * Identifiers indexed by element.
+   */
+  private final Map<State, Integer> stateIds;
+  private final Map<Symbol, Integer> inputSymbolIds;
+  private final Map<Symbol, Integer> stackSymbolIds;
+
+  /**
+   * Initial configuration and
+   * accepting states.
+   */
+  private final int initialState;
+  private final int initialStackSymbol;
+  private final boolean[] accepting;
+
+  /**
+   * Compiled transition function.
+   */
+  private final CompiledTransitionFunction transitionFunction;
+
+  /**
+   * Equivalent grammar, {@code null}
+   * until it is requested.
+   */
+  private ContextFreeGrammar grammar;
+
+  /**
+   * Chomsky normal form of the grammar,
+   * {@code null} until it is requested.
+   */
+  private ChomskyNormalForm chomskyNormalForm;
+
+  /**
+   * Summary of the empty transitions,
+   * {@code null} until it is requested.
+   */
+  private PopSummary emptyTransitionSummary;
+
+  /**
+   * Bound of the input needed to accept,
+   * {@code null} until it is requested.
+   */
+  private InputBound inputBound;
+
+  /**
+   * Cycles of the empty transitions,
+   * {@code null} until they are requested.
+   */
+  private EmptyCycles emptyCycles;
+
+  /**
+   * Closures of the empty transitions,
+   * {@code null} until they are requested.
+   */
+  private EmptyClosure emptyClosure;
+
+  /**
+   * Constructor of the class.
+   *
+   * It compiles the current definition
+   * of the automaton. Later changes on
+   * the automaton are not reflected.
+   *
+   * @param automaton to compile.
+   * @throws NullPointerException if
+   *          automaton is {@code null}.
+   */
+  public CompiledAutomaton(PushdownAutomaton automaton) {
+    if (automaton == null)
+      throw new NullPointerException("automaton can not be null.");
+
+    Set<State> declaredStates = new LinkedHashSet<>(automaton.getSetOfStates());
+    Set<Symbol> declaredInputSymbols = new LinkedHashSet<>();
+    declaredInputSymbols.add(Symbol.EMPTY_SYMBOL);
+    declaredInputSymbols.addAll(automaton.getInputAlphabet());
+    Set<Symbol> declaredStackSymbols = new LinkedHashSet<>(automaton.getStackAlphabet());
+
+    // elements used by transitions but not declared.
+    addIfNotNull(declaredStates, automaton.getInitialState());
+    addIfNotNull(declaredStackSymbols, automaton.getInitialStackSymbol());
+    for (State state : automaton.getAcceptingStates()) {
+      addIfNotNull(declaredStates, state);
+    }
+    for (Transition transition : automaton.getTransitionFunction()) {
+      PDATransition t = PDATransition.valueOf(transition);
+      addIfNotNull(declaredStates, t.getCurrentStateNode());
+      addIfNotNull(declaredInputSymbols, t.getCurrentStateSymbol());
+      addIfNotNull(declaredStackSymbols, t.getCurrentStateStackSymbol());
+      addIfNotNull(declaredStates, t.getNextStateNode());
+      for (int i = 0; i < t.numberOfPushedSymbols(); i++) {
+        addIfNotNull(declaredStackSymbols, t.getPushedSymbol(i));
+      }
+    }
+
+    states = declaredStates.toArray(new State[0]);
+    inputSymbols = declaredInputSymbols.toArray(new Symbol[0]);
+    stackSymbols = declaredStackSymbols.toArray(new Symbol[0]);
+    stateIds = index(states);
+    inputSymbolIds = index(inputSymbols);
+    stackSymbolIds = index(stackSymbols);
+
+    initialState = stateId(automaton.getInitialState());
+    initialStackSymbol = stackSymbolId(automaton.getInitialStackSymbol());
+    accepting = new boolean[states.length];
+    for (State state : automaton.getAcceptingStates()) {
+      accepting[stateId(state)] = true;
+    }
+
+    transitionFunction =
+            new CompiledTransitionFunction(this, automaton.getTransitionFunction());
+  }
+
+  /**
+   * Returns the number of states.
+   *
+   * @return number of states.
+   */
+  public int numberOfStates() {
+    return states.length;
+  }
+
+  /**
+   * Returns the number of input
+   * symbols, including the empty
+   * symbol.
+   *
+   * @return number of input symbols.
+   */
+  public int numberOfInputSymbols() {
+    return inputSymbols.length;
+  }
+
+  /**
+   * Returns the number of
+   * stack symbols.
+   *
+   * @return number of stack symbols.
+   */
+  public int numberOfStackSymbols() {
+    return stackSymbols.length;
+  }
+
+  /**
+   * Returns the identifier of
+   * the state.
+   *
+   * @param state we want to identify.
+   * @return the identifier or {@link #UNKNOWN_ID}
+   *          if state does not belong to
+   *          the automaton.
+   */
+  public int stateId(State state) {
+    Integer id = stateIds.get(state);
+    return id == null ? UNKNOWN_ID : id;
+  }
+
+  /**
+   * Returns the identifier of the
+   * input symbol.
+   *
+   * Symbols that do not belong to the
+   * input alphabet share the identifier
+   * of the empty symbol, because only
+   * empty transitions can be applied
+   * while reading them.
+   *
+   * @param symbol we want to identify.
+   * @return the identifier of the symbol.
+   */
+  public int inputSymbolId(Symbol symbol) {
+    Integer id = inputSymbolIds.get(symbol);
+    return id == null ? EMPTY_SYMBOL_ID : id;
+  }
+
+  /**
+   * Returns the identifier of
+   * the stack symbol.
+   *
+   * @param symbol we want to identify.
+   * @return the identifier or {@link #UNKNOWN_ID}
+   *          if the symbol does not belong
+   *          to the stack alphabet.
+   */
+  public int stackSymbolId(Symbol symbol) {
+    Integer id = stackSymbolIds.get(symbol);
+    return id == null ? UNKNOWN_ID : id;
+  }
+
+  /**
+   * Returns the state with the
+   * specified identifier.
+   *
+   * @param id of the state.
+   * @return the state.
+   */
+  public State getState(int id) {
+    return states[id];
+  }
+
+  /**
+   * Returns the input symbol with
+   * the specified identifier.
+   *
+   * @param id of the symbol.
+   * @return the symbol.
+   */
+  public Symbol getInputSymbol(int id) {
+    return inputSymbols[id];
+  }
+
+  /**
+   * Returns the stack symbol with
+   * the specified identifier.
+   *
+   * @param id of the symbol.
+   * @return the symbol.
+   */
+  public Symbol getStackSymbol(int id) {
+    return stackSymbols[id];
+  }
+
+  /**
+   * Returns the identifier of
+   * the initial state.
+   *
+   * @return initial state.
+   */
+  public int getInitialState() {
+    return initialState;
+  }
+
+  /**
+   * Returns the identifier of the
+   * initial stack symbol.
+   *
+   * @return initial stack symbol.
+   */
+  public int getInitialStackSymbol() {
+    return initialStackSymbol;
+  }
+
+  /**
+   * Tests if a state is
+   * an accepting state.
+   *
+   * @param state identifier of the state.
+   * @return {@code true} if it is accepting.
+   */
+  public boolean isAccepting(int state) {
+    return accepting[state];
+  }
+
+  /**
+   * Returns the compiled
+   * transition function.
+   *
+   * @return transition function.
+   */
+  public CompiledTransitionFunction getTransitionFunction() {
+    return transitionFunction;
+  }
+
+  /**
+   * Returns a context free grammar that
+   * generates the language of the
+   * automaton, translating it the
+   * first time it is requested.
+   *
+   * @return the equivalent grammar.
+   * @see GrammarTranslator
+   */
+  public synchronized ContextFreeGrammar getGrammar() {
+    if (grammar == null)
+      grammar = GrammarTranslator.translate(this);
+    return grammar;
+  }
+
+  /**
+   * Returns the Chomsky normal form of the
+   * grammar of the automaton, converting it
+   * the first time it is requested.
+   *
+   * @return the normal form.
+   * @see #getGrammar()
+   */
+  public synchronized ChomskyNormalForm getChomskyNormalForm() {
+    if (chomskyNormalForm == null)
+      chomskyNormalForm = ChomskyNormalForm.convert(getGrammar());
+    return chomskyNormalForm;
+  }
+
+  /**
+   * Returns the summary of the empty
+   * transitions of the automaton, computing
+   * it the first time it is requested.
+   *
+   * @return the summary.
+   * @see PopSummary#ofEmptyTransitions(CompiledAutomaton)
+   */
+  public synchronized PopSummary getEmptyTransitionSummary() {
+    if (emptyTransitionSummary == null)
+      emptyTransitionSummary = PopSummary.ofEmptyTransitions(this);
+    return emptyTransitionSummary;
+  }
+
+  /**
+   * Returns the bound of the input needed
+   * to accept from each state and stack
+   * symbol, computing it the first time
+   * it is requested.
+   *
+   * @return the bound.
+   * @see InputBound#of(CompiledAutomaton)
+   */
+  public synchronized InputBound getInputBound() {
+    if (inputBound == null)
+      inputBound = InputBound.of(this);
+    return inputBound;
+  }
+
+  /**
+   * Returns the cycles of the empty
+   * transitions of the automaton, finding
+   * them the first time they are requested.
+   *
+   * @return the cycles.
+   * @see EmptyCycles#of(CompiledAutomaton)
+   */
+  public synchronized EmptyCycles getEmptyCycles() {
+    if (emptyCycles == null)
+      emptyCycles = EmptyCycles.of(this);
+    return emptyCycles;
+  }
+
+  /**
+   * Returns the closures of the empty
+   * transitions of the automaton, computing
+   * them the first time they are requested.
+   *
+   * @return the closures.
+   * @see EmptyClosure#of(CompiledAutomaton)
+   */
+  public synchronized EmptyClosure getEmptyClosure() {
+    if (emptyClosure == null)
+      emptyClosure = EmptyClosure.of(this);
+    return emptyClosure;
+  }
+
+  /**
+   * Adds an element to the set
+   * if it is not {@code null}.
+   *
+   * @param set where element is added.
+   * @param element to add.
+   * @param <E> type of the element.
+   */
+  private static <E> void addIfNotNull(Set<E> set, E element) {
+    if (element != null)
+      set.add(element);
+  }
+
+  /**
+   * Creates the identifier map
+   * of the elements.
+   *
+   * @param elements indexed by identifier.
+   * @param <E> type of the elements.
+   * @return the map from element to
+   *          identifier.
+   */
+  private static <E> Map<E, Integer> index(E[] elements) {
+    Map<E, Integer> ids = new HashMap<>();
+    for (int i = 0; i < elements.length; i++) {
+      ids.put(elements[i], i);
+    }
+    return ids;
+  }
+}
@@ -0,0 +1,128 @@
+package pushdown.compiled;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import pushdown.PushdownAutomaton;
+import pushdown.reader.PDAReader;
+import pushdown.transition.PDATransition;
+import symbol.Symbol;
+import tape.Tape;
+import tape.reader.TapeReader;
+
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h2>CompiledAutomatonTest</h2>
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class CompiledAutomatonTest {
+  PushdownAutomaton pda;
+  CompiledAutomaton compiled;
+
+  @Before
+  public void setUp() throws FileNotFoundException {
+    PDAReader reader = new PDAReader(new FileReader("test/APf-2.txt"));
+    pda = reader.getReadPDA();
+    compiled = pda.compile();
+  }
+
+  @Test
+  public void identifiersTest() {
+    assertEquals(3, compiled.numberOfStates());
+    assertEquals(3, compiled.numberOfInputSymbols());
+    assertEquals(3, compiled.numberOfStackSymbols());
+
+    assertEquals(pda.getInitialState(),
+            compiled.getState(compiled.getInitialState()));
+    assertEquals(pda.getInitialStackSymbol(),
+            compiled.getStackSymbol(compiled.getInitialStackSymbol()));
+    assertTrue(compiled.isAccepting(compiled.stateId(pda.getSetOfStates().getById("r"))));
+    assertFalse(compiled.isAccepting(compiled.stateId(pda.getSetOfStates().getById("p"))));
+    assertEquals(CompiledAutomaton.EMPTY_SYMBOL_ID,
+            compiled.inputSymbolId(Symbol.EMPTY_SYMBOL));
+  }
+
+  @Test
+  public void compileIsCachedTest() {
+    assertSame(compiled, pda.compile());
+  }
+
+  @Test
+  public void inputTest() {
+    Tape tape = new TapeReader("0 1 1").getReadTapes().get(0);
+    tape.moveRight();
+    CompiledInput input = new CompiledInput(compiled, tape);
+
+    assertEquals(3, input.length());
+    assertEquals(compiled.inputSymbolId(new Symbol("0")), input.symbolAt(0));
+    assertEquals(compiled.inputSymbolId(new Symbol("1")), input.symbolAt(2));
+    assertEquals(CompiledAutomaton.EMPTY_SYMBOL_ID, input.symbolAt(3));
+    assertFalse(input.hasReachedTheEnd(2));
+    assertTrue(input.hasReachedTheEnd(3));
+    assertEquals("1 1 $", input.toString(1));
+  }
+
+  @Test
+  public void denseRowsTest() {
+    CompiledTransitionFunction table = compiled.getTransitionFunction();
+    assertTrue(table.isDense());
+    checkRows(table);
+  }
+
+  @Test
+  public void sparseRowsTest() {
+    CompiledTransitionFunction table =
+            new CompiledTransitionFunction(compiled, pda.getTransitionFunction(), 0);
+    assertFalse(table.isDense());
+    checkRows(table);
+  }
+
+  @Test
+  public void pushedSymbolsTest() {
+    CompiledTransitionFunction table = compiled.getTransitionFunction();
+    for (int t = 0; t < table.numberOfTransitions(); t++) {
+      PDATransition transition = table.getTransition(t);
+      List<String> expected = new ArrayList<>();
+      for (Symbol s : transition.getNextStateStackSymbols()) {
+        if (!s.equals(Symbol.EMPTY_SYMBOL))
+          expected.add(0, s.toString());
+      }
+      List<String> pushed = new ArrayList<>();
+      for (int i = table.pushBegin(t); i < table.pushEnd(t); i++) {
+        pushed.add(compiled.getStackSymbol(table.pushedSymbol(i)).toString());
+      }
+      assertEquals(expected, pushed);
+    }
+  }
+
+  /**
+   * Every row must contain the same
+   * transitions, in the same order, than
+   * the transition function.
+   */
+  private void checkRows(CompiledTransitionFunction table) {
+    for (int q = 0; q < compiled.numberOfStates(); q++) {
+      for (int a = 0; a < compiled.numberOfInputSymbols(); a++) {
+        for (int x = 0; x < compiled.numberOfStackSymbols(); x++) {
+          List<PDATransition> expected = new ArrayList<>(
+                  pda.getTransitionFunction().getNextState(compiled.getState(q),
+                          compiled.getInputSymbol(a),
+                          compiled.getStackSymbol(x)));
+          List<PDATransition> row = new ArrayList<>();
+          int r = table.row(q, a, x);
+          for (int i = table.rowBegin(r); i < table.rowEnd(r); i++) {
+            row.add(table.getTransition(table.transitionAt(i)));
+          }
+          assertEquals(expected, row);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package pushdown.compiled;
+
+import symbol.Symbol;
+import tape.Tape;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <h2>CompiledInput</h2>
+ *
+ * Input of a compiled automaton.
+ *
+ * The symbols of the tape are stored
+ * as input symbol identifiers, so an
+ * evaluation only needs an integer
+ * offset to know which symbol it
+ * is reading, and several branches
+ * of the same evaluation can share
+ * a single input.
+ *
+ * An input can be loaded again with
+ * another tape, reusing its buffer,
+ * but never while it is evaluated.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public final class CompiledInput {
+
+  /**
+   * Automaton that assigns
+   * the identifiers.
+   */
+  private final CompiledAutomaton automaton;
+
+  /**
+   * Identifiers of the symbols,
+   * the buffer may be longer.
+   */
+  private int[] symbols;
+  private int length;
+
+  /**
+   * Original symbols, used to
+   * represent the input.
+   */
+  private List<Symbol> source;
+
+  /**
+   * Constructor of the class.
+   *
+   * It encodes every symbol of the
+   * tape, regardless of the position
+   * of its head.
+   *
+   * @param automaton that assigns the
+   *                  identifiers.
+   * @param tape to encode.
+   * @throws NullPointerException if any
+   *          parameter is {@code null}.
+   */
+  public CompiledInput(CompiledAutomaton automaton, Tape tape) {
+    this(automaton);
+    load(tape);
+  }
+
+  /**
+   * Constructor of an empty input,
+   * to be loaded later.
+   *
+   * @param automaton that assigns the
+   *                  identifiers.
+   * @throws NullPointerException if
+   *          automaton is {@code null}.
+   */
+  public CompiledInput(CompiledAutomaton automaton) {
+    if (automaton == null)
+      throw new NullPointerException("automaton can not be null.");
+
+    this.automaton = automaton;
+    this.symbols = new int[0];
+    this.source = Collections.emptyList();
+  }
+
+  /**
+   * Encodes every symbol of the tape,
+   * replacing the previous input. The
+   * buffer only grows when the tape is
+   * longer than any previous one.
+   *
+   * @param tape to encode.
+   * @return this input.
+   * @throws NullPointerException if
+   *          tape is {@code null}.
+   */
+  public CompiledInput load(Tape tape) {
+    if (tape == null)
+      throw new NullPointerException("tape can not be null.");
+
+    source = tape.getSymbolsView();
+    length = source.size();
+    if (symbols.length < length)
+      symbols = new int[Math.max(length, symbols.length * 2)];
+    for (int i = 0; i < length; i++) {
+      symbols[i] = automaton.inputSymbolId(source.get(i));
+    }
+    return this;
+  }
+
+  /**
+   * Returns the number of
+   * symbols of the input.
+   *
+   * @return length of the input.
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Returns the identifier of the
+   * symbol at the specified offset.
+   *
+   * @param head offset of the symbol.
+   * @return the identifier or the one of
+   *          the empty symbol if the offset
+   *          is beyond the input.
+   */
+  public int symbolAt(int head) {
+    return head < length ?
+            symbols[head] :
+            CompiledAutomaton.EMPTY_SYMBOL_ID;
+  }
+
+  /**
+   * Tests if the offset is
+   * beyond the last symbol.
+   *
+   * @param head offset to check.
+   * @return {@code true} if the whole
+   *          input has been consumed.
+   */
+  public boolean hasReachedTheEnd(int head) {
+    return head >= length;
+  }
+
+  /**
+   * Returns the input that remains
+   * from the specified offset, in
+   * the format used by tapes.
+   *
+   * @param head offset of the first symbol.
+   * @return the remaining input.
+   */
+  public String toString(int head) {
+    String input = "";
+    for (int i = head; i < source.size(); i++) {
+      input += source.get(i).toString() + " ";
+    }
+    input += "$";
+    return input;
+  }
+
+  /**
+   * Returns the whole input as
+   * a string.
+   *
+   * @return the input.
+   */
+  @Override
+  public String toString() {
+    return toString(0);
+  }
+}
@@ -0,0 +1,556 @@
+package pushdown.compiled;
+
+import pushdown.transition.PDATransition;
+import transition.Transition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <h2>CompiledTransitionFunction</h2>
+ *
+ * Frozen, integer indexed version
+ * of a pushdown transition function.
+ *
+ * Transitions are grouped in rows
+ * keyed by (state, input symbol,
+ * stack symbol) identifiers. Each
+ * row already contains the empty
+ * symbol transitions of its state
+ * and stack symbol, in the same
+ * order used by the original
+ * function, so a lookup returns
+ * every applicable transition.
+ *
+ * When the number of possible keys
+ * is small rows are indexed with a
+ * dense array, otherwise an open
+ * addressing hash table with only
+ * the used keys is built. In both
+ * cases lookups are constant time
+ * and allocate nothing.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class CompiledTransitionFunction {
+
+  /**
+   * Maximum number of keys for
+   * which a dense row index is
+   * used.
+   */
+  public static final int DENSE_TABLE_LIMIT = 1 << 20;
+
+  /**
+   * Value of an empty slot on the
+   * sparse row index.
+   */
+  private static final long EMPTY_KEY = -1L;
+
+  /**
+   * Dimensions of the key space.
+   */
+  private final int numberOfStates;
+  private final int numberOfInputSymbols;
+  private final int numberOfStackSymbols;
+
+  /**
+   * Original transitions, indexed
+   * by transition identifier.
+   */
+  private final PDATransition[] transitions;
+
+  /**
+   * Compiled fields of every
+   * transition.
+   */
+  private final int[] currentStates;
+  private final int[] inputSymbols;
+  private final int[] stackSymbols;
+  private final int[] nextStates;
+  private final int[] pushStart;
+  private final int[] pushedSymbols;
+
+  /**
+   * Rows of the table. Row {@code r}
+   * contains the transition identifiers
+   * placed between {@code rowStart[r]}
+   * and {@code rowStart[r + 1]}.
+   */
+  private final int[] rowStart;
+  private final int[] rowTransitions;
+
+  /**
+   * Identifier of the row that is
+   * always empty.
+   */
+  private final int emptyRow;
+
+  /**
+   * Sparse row index, {@code null} when
+   * the table is dense.
+   */
+  private final long[] slotKeys;
+  private final int[] slotRows;
+
+  /**
+   * If every row has at most
+   * one transition.
+   */
+  private final boolean deterministic;
+
+  /**
+   * Constructor of the class.
+   *
+   * It compiles the transitions using
+   * the identifiers assigned by the
+   * automaton.
+   *
+   * @param automaton that assigns the
+   *                  identifiers.
+   * @param transitions to compile, sorted
+   *                    in evaluation order.
+   * @throws NullPointerException if any
+   *          parameter is {@code null}.
+   */
+  public CompiledTransitionFunction(CompiledAutomaton automaton,
+                                    Collection<Transition> transitions) {
+    this(automaton, transitions, DENSE_TABLE_LIMIT);
+  }
+
+  /**
+   * Constructor of the class.
+   *
+   * It allows to choose the maximum
+   * number of keys of a dense table.
+   *
+   * @param automaton that assigns the
+   *                  identifiers.
+   * @param transitions to compile, sorted
+   *                    in evaluation order.
+   * @param denseTableLimit maximum number of
+   *                        keys of a dense table.
+   * @throws NullPointerException if any
+   *          parameter is {@code null}.
+   */
+  CompiledTransitionFunction(CompiledAutomaton automaton,
+                             Collection<Transition> transitions,
+                             long denseTableLimit) {
+    if (automaton == null)
+      throw new NullPointerException("automaton can not be null.");
+    if (transitions == null)
+      throw new NullPointerException("transitions can not be null.");
+
+    numberOfStates = automaton.numberOfStates();
+    numberOfInputSymbols = automaton.numberOfInputSymbols();
+    numberOfStackSymbols = automaton.numberOfStackSymbols();
+
+    int size = transitions.size();
+    this.transitions = new PDATransition[size];
+    currentStates = new int[size];
+    inputSymbols = new int[size];
+    stackSymbols = new int[size];
+    nextStates = new int[size];
+    pushStart = new int[size + 1];
+
+    List<Integer> pushed = new ArrayList<>();
+    int index = 0;
+    for (Transition transition : transitions) {
+      PDATransition t = PDATransition.valueOf(transition);
+      this.transitions[index] = t;
+      currentStates[index] = automaton.stateId(t.getCurrentStateNode());
+      inputSymbols[index] = automaton.inputSymbolId(t.getCurrentStateSymbol());
+      stackSymbols[index] = automaton.stackSymbolId(t.getCurrentStateStackSymbol());
+      nextStates[index] = automaton.stateId(t.getNextStateNode());
+
+      // symbols are stored in the order they are pushed.
+      pushStart[index] = pushed.size();
+      for (int i = 0; i < t.numberOfPushedSymbols(); i++) {
+        pushed.add(automaton.stackSymbolId(t.getPushedSymbol(i)));
+      }
+      index += 1;
+    }
+    pushStart[size] = pushed.size();
+    pushedSymbols = new int[pushed.size()];
+    for (int i = 0; i < pushedSymbols.length; i++) {
+      pushedSymbols[i] = pushed.get(i);
+    }
+
+    // transitions grouped by state and stack symbol.
+    Map<Long, List<Integer>> groups = new HashMap<>();
+    for (int t = 0; t < size; t++) {
+      long group = (long) currentStates[t] * numberOfStackSymbols + stackSymbols[t];
+      if (!groups.containsKey(group))
+        groups.put(group, new ArrayList<>());
+      groups.get(group).add(t);
+    }
+
+    long numberOfKeys = (long) numberOfStates
+            * numberOfInputSymbols * numberOfStackSymbols;
+    int[] rows = new int[Math.max(1, size)];
+    int length = 0;
+    if (numberOfKeys <= denseTableLimit) {
+      rowStart = new int[(int) numberOfKeys + 2];
+      for (int key = 0; key < numberOfKeys; key++) {
+        rowStart[key] = length;
+        int stack = key % numberOfStackSymbols;
+        int input = (key / numberOfStackSymbols) % numberOfInputSymbols;
+        int state = key / (numberOfStackSymbols * numberOfInputSymbols);
+        List<Integer> group = groups.get((long) state * numberOfStackSymbols + stack);
+        if (group != null) {
+          if (length + group.size() > rows.length)
+            rows = Arrays.copyOf(rows, grow(rows.length, length + group.size()));
+          length = addMergedRow(rows, length, group, input);
+        }
+      }
+      emptyRow = (int) numberOfKeys;
+      slotKeys = null;
+      slotRows = null;
+    } else {
+      Set<Long> keys = new LinkedHashSet<>();
+      for (int t = 0; t < size; t++) {
+        keys.add(key(currentStates[t], inputSymbols[t], stackSymbols[t]));
+      }
+      emptyRow = keys.size();
+      rowStart = new int[keys.size() + 2];
+      int capacity = Integer.highestOneBit(Math.max(2, keys.size() * 2)) << 1;
+      slotKeys = new long[capacity];
+      slotRows = new int[capacity];
+      Arrays.fill(slotKeys, EMPTY_KEY);
+      int row = 0;
+      for (long key : keys) {
+        int stack = (int) (key % numberOfStackSymbols);
+        int input = (int) ((key / numberOfStackSymbols) % numberOfInputSymbols);
+        int state = (int) (key / ((long) numberOfStackSymbols * numberOfInputSymbols));
+        List<Integer> group = groups.get((long) state * numberOfStackSymbols + stack);
+        rowStart[row] = length;
+        if (length + group.size() > rows.length)
+          rows = Arrays.copyOf(rows, grow(rows.length, length + group.size()));
+        length = addMergedRow(rows, length, group, input);
+
+        int slot = slot(key);
+        while (slotKeys[slot] != EMPTY_KEY) {
+          slot = (slot + 1) & (capacity - 1);
+        }
+        slotKeys[slot] = key;
+        slotRows[slot] = row;
+        row += 1;
+      }
+    }
+    // the empty row and the end of the last row.
+    rowStart[emptyRow] = length;
+    rowStart[emptyRow + 1] = length;
+    rowTransitions = length == rows.length ? rows : Arrays.copyOf(rows, length);
+
+    boolean singleTransitionRows = true;
+    for (int row = 0; row + 1 < rowStart.length && singleTransitionRows; row++) {
+      singleTransitionRows = rowStart[row + 1] - rowStart[row] <= 1;
+    }
+    deterministic = singleTransitionRows;
+  }
+
+  /**
+   * Returns the row that contains every
+   * transition applicable on the
+   * specified configuration.
+   *
+   * The input symbol identifier of the
+   * empty symbol must be used when the
+   * input has been consumed.
+   *
+   * @param state identifier of the current state.
+   * @param inputSymbol identifier of the read symbol.
+   * @param stackSymbol identifier of the top of the stack.
+   * @return the identifier of the row.
+   */
+  public int row(int state, int inputSymbol, int stackSymbol) {
+    if (slotKeys == null) {
+      return (state * numberOfInputSymbols + inputSymbol)
+              * numberOfStackSymbols + stackSymbol;
+    }
+    int row = findRow(key(state, inputSymbol, stackSymbol));
+    if (row == emptyRow && inputSymbol != CompiledAutomaton.EMPTY_SYMBOL_ID) {
+      row = findRow(key(state, CompiledAutomaton.EMPTY_SYMBOL_ID, stackSymbol));
+    }
+    return row;
+  }
+
+  /**
+   * Returns the first position
+   * of the row.
+   *
+   * @param row identifier of the row.
+   * @return first position of the row.
+   */
+  public int rowBegin(int row) {
+    return rowStart[row];
+  }
+
+  /**
+   * Returns the position after
+   * the last one of the row.
+   *
+   * @param row identifier of the row.
+   * @return end position of the row.
+   */
+  public int rowEnd(int row) {
+    return rowStart[row + 1];
+  }
+
+  /**
+   * Returns the transition stored at
+   * the specified row position.
+   *
+   * @param position inside a row.
+   * @return identifier of the transition.
+   */
+  public int transitionAt(int position) {
+    return rowTransitions[position];
+  }
+
+  /**
+   * Returns the number of
+   * compiled transitions.
+   *
+   * @return number of transitions.
+   */
+  public int numberOfTransitions() {
+    return transitions.length;
+  }
+
+  /**
+   * Tests if rows are indexed
+   * with a dense array.
+   *
+   * @return {@code true} if the
+   *          table is dense.
+   */
+  public boolean isDense() {
+    return slotKeys == null;
+  }
+
+  /**
+   * Tests if at most one transition
+   * can be applied on every
+   * configuration, that is, if every
+   * row has at most one transition.
+   *
+   * @return {@code true} if the table
+   *          is deterministic.
+   */
+  public boolean isDeterministic() {
+    return deterministic;
+  }
+
+  /**
+   * Returns the original transition.
+   *
+   * @param transition identifier.
+   * @return the pushdown transition.
+   */
+  public PDATransition getTransition(int transition) {
+    return transitions[transition];
+  }
+
+  /**
+   * Returns the state where the
+   * transition is applied.
+   *
+   * @param transition identifier.
+   * @return identifier of the state.
+   */
+  public int currentState(int transition) {
+    return currentStates[transition];
+  }
+
+  /**
+   * Returns the input symbol read
+   * by the transition.
+   *
+   * @param transition identifier.
+   * @return identifier of the symbol.
+   */
+  public int inputSymbol(int transition) {
+    return inputSymbols[transition];
+  }
+
+  /**
+   * Returns the stack symbol popped
+   * by the transition.
+   *
+   * @param transition identifier.
+   * @return identifier of the symbol.
+   */
+  public int stackSymbol(int transition) {
+    return stackSymbols[transition];
+  }
+
+  /**
+   * Returns the state reached
+   * by the transition.
+   *
+   * @param transition identifier.
+   * @return identifier of the state.
+   */
+  public int nextState(int transition) {
+    return nextStates[transition];
+  }
+
+  /**
+   * Tests if the transition moves
+   * the head of the input.
+   *
+   * @param transition identifier.
+   * @return {@code true} if the transition
+   *          consumes an input symbol.
+   */
+  public boolean consumesInput(int transition) {
+    return inputSymbols[transition] != CompiledAutomaton.EMPTY_SYMBOL_ID;
+  }
+
+  /**
+   * Returns the first position of the
+   * symbols pushed by the transition.
+   *
+   * Symbols are stored in the order
+   * they must be pushed, so the last
+   * one ends on the top of the stack.
+   *
+   * @param transition identifier.
+   * @return first pushed position.
+   */
+  public int pushBegin(int transition) {
+    return pushStart[transition];
+  }
+
+  /**
+   * Returns the position after the
+   * last symbol pushed by the transition.
+   *
+   * @param transition identifier.
+   * @return end pushed position.
+   */
+  public int pushEnd(int transition) {
+    return pushStart[transition + 1];
+  }
+
+  /**
+   * Returns the pushed symbol at
+   * the specified position.
+   *
+   * @param position of the symbol.
+   * @return identifier of the symbol.
+   */
+  public int pushedSymbol(int position) {
+    return pushedSymbols[position];
+  }
+
+  /**
+   * Adds to the rows the transitions of
+   * the input symbol merged with the
+   * empty symbol transitions, keeping
+   * the order of the original function.
+   *
+   * The rows must have room for every
+   * transition of the group.
+   *
+   * @param rows where transitions are added.
+   * @param length of the rows already added.
+   * @param group transitions that share the
+   *              state and the stack symbol.
+   * @param input identifier of the input symbol.
+   * @return the length of the rows with
+   *          the added transitions.
+   */
+  private int addMergedRow(int[] rows, int length, List<Integer> group, int input) {
+    List<Integer> symbolTransitions = new ArrayList<>();
+    List<Integer> emptyTransitions = new ArrayList<>();
+    for (int t : group) {
+      if (inputSymbols[t] == CompiledAutomaton.EMPTY_SYMBOL_ID) {
+        emptyTransitions.add(t);
+      } else if (inputSymbols[t] == input) {
+        symbolTransitions.add(t);
+      }
+    }
+    int i = 0;
+    int j = 0;
+    while (i < symbolTransitions.size() || j < emptyTransitions.size()) {
+      if (j >= emptyTransitions.size()
+              || (i < symbolTransitions.size()
+              && transitions[symbolTransitions.get(i)]
+                 .compareTo(transitions[emptyTransitions.get(j)]) <= 0)) {
+        rows[length++] = symbolTransitions.get(i++);
+      } else {
+        rows[length++] = emptyTransitions.get(j++);
+      }
+    }
+    return length;
+  }
+
+  /**
+   * Returns the new capacity of the rows,
+   * doubling it until the required
+   * transitions fit.
+   *
+   * @param capacity of the rows.
+   * @param required number of transitions.
+   * @return the new capacity.
+   */
+  private static int grow(int capacity, int required) {
+    long next = Math.max(1, capacity);
+    while (next < required) {
+      next *= 2;
+    }
+    return (int) Math.min(next, Integer.MAX_VALUE - 8);
+  }
+
+  /**
+   * Finds a row on the sparse index.
+   *
+   * @param key of the row.
+   * @return the row or the empty row
+   *          if key is not present.
+   */
+  private int findRow(long key) {
+    int mask = slotKeys.length - 1;
+    int slot = slot(key);
+    while (slotKeys[slot] != EMPTY_KEY) {
+      if (slotKeys[slot] == key)
+        return slotRows[slot];
+      slot = (slot + 1) & mask;
+    }
+    return emptyRow;
+  }
+
+  /**
+   * Packs the identifiers into a key.
+   *
+   * @param state identifier of the state.
+   * @param input identifier of the input symbol.
+   * @param stack identifier of the stack symbol.
+   * @return the packed key.
+   */
+  private long key(int state, int input, int stack) {
+    return ((long) state * numberOfInputSymbols + input)
+            * numberOfStackSymbols + stack;
+  }
+
+  /**
+   * Initial slot of a key on
+   * the sparse index.
+   *
+   * @param key of the row.
+   * @return the slot.
+   */
+  private int slot(long key) {
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash >>> 32) & (slotKeys.length - 1);
+  }
+}
@@ -0,0 +1,294 @@
+package pushdown.evaluator;
+
+import pushdown.compiled.CompiledAutomaton;
+import tape.Tape;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <h2>BatchEvaluator</h2>
+ *
+ * Evaluator of many tapes in parallel
+ * against the same automaton.
+ *
+ * Tapes are grouped in chunks, and each
+ * chunk is evaluated as a task of the
+ * executor by the evaluator that the
+ * {@link EvaluatorPool} keeps for the
+ * thread that runs it, so evaluators
+ * are never shared. Only a limited
+ * number of chunks are in flight at
+ * the same time, which keeps memory
+ * bounded when the tapes come from a
+ * long stream.
+ *
+ * Results are returned in the
+ * order of the tapes.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class BatchEvaluator {
+
+  /**
+   * Default number of tapes
+   * of a chunk.
+   */
+  public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+  private final EvaluatorPool pool;
+  private final EvaluationStrategy strategy;
+  private final Executor executor;
+  private final int chunkSize;
+
+  /**
+   * Maximum number of chunks
+   * in flight.
+   */
+  private final int window;
+
+  /**
+   * Constructor of the class.
+   *
+   * It uses the default chunk size and
+   * keeps four chunks in flight for
+   * each available processor.
+   *
+   * @param automaton to evaluate.
+   * @param strategy of the evaluation.
+   * @param executor where chunks are evaluated.
+   * @throws NullPointerException if any
+   *          parameter is {@code null}.
+   */
+  public BatchEvaluator(CompiledAutomaton automaton,
+                        EvaluationStrategy strategy,
+                        Executor executor) {
+    this(automaton, strategy, executor, DEFAULT_CHUNK_SIZE,
+            4 * Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Constructor of the class.
+   *
+   * @param automaton to evaluate.
+   * @param strategy of the evaluation.
+   * @param executor where chunks are evaluated.
+   * @param chunkSize number of tapes of a chunk.
+   * @param window maximum number of chunks
+   *               in flight.
+   * @throws NullPointerException if automaton,
+   *          strategy or executor are {@code null}.
+   * @throws IllegalArgumentException if chunkSize
+   *          or window are not positive.
+   */
+  public BatchEvaluator(CompiledAutomaton automaton,
+                        EvaluationStrategy strategy,
+                        Executor executor,
+                        int chunkSize,
+                        int window) {
+    this(new EvaluatorPool(automaton), strategy, executor, chunkSize, window);
+  }
+
+  /**
+   * Constructor of the class.
+   *
+   * It evaluates the tapes with the
+   * evaluators of an existing pool, uses
+   * the default chunk size and keeps four
+   * chunks in flight for each available
+   * processor.
+   *
+   * @param pool of evaluators to use.
+   * @param strategy of the evaluation.
+   * @param executor where chunks are evaluated.
+   * @throws NullPointerException if any
+   *          parameter is {@code null}.
+   */
+  public BatchEvaluator(EvaluatorPool pool,
+                        EvaluationStrategy strategy,
+                        Executor executor) {
+    this(pool, strategy, executor, DEFAULT_CHUNK_SIZE,
+            4 * Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Constructor of the class.
+   *
+   * It evaluates the tapes with the
+   * evaluators of an existing pool.
+   *
+   * @param pool of evaluators to use.
+   * @param strategy of the evaluation.
+   * @param executor where chunks are evaluated.
+   * @param chunkSize number of tapes of a chunk.
+   * @param window maximum number of chunks
+   *               in flight.
+   * @throws NullPointerException if pool,
+   *          strategy or executor are {@code null}.
+   * @throws IllegalArgumentException if chunkSize
+   *          or window are not positive.
+   */
+  public BatchEvaluator(EvaluatorPool pool,
+                        EvaluationStrategy strategy,
+                        Executor executor,
+                        int chunkSize,
+                        int window) {
+    if (pool == null)
+      throw new NullPointerException("pool can not be null.");
+    if (strategy == null)
+      throw new NullPointerException("strategy can not be null.");
+    if (executor == null)
+      throw new NullPointerException("executor can not be null.");
+    if (chunkSize <= 0)
+      throw new IllegalArgumentException("chunk size must be positive.");
+    if (window <= 0)
+      throw new IllegalArgumentException("window must be positive.");
+
+    this.pool = pool;
+    this.strategy = strategy;
+    this.executor = executor;
+    this.chunkSize = chunkSize;
+    this.window = window;
+  }
+
+  /**
+   * Tests if each tape belongs to the
+   * language of the automaton.
+   *
+   * @param tapes to evaluate.
+   * @return the result of each tape,
+   *          in the same order.
+   * @throws NullPointerException if tapes
+   *          or any tape are {@code null}.
+   */
+  public boolean[] evaluate(List<Tape> tapes) {
+    if (tapes == null)
+      throw new NullPointerException("tapes can not be null.");
+
+    boolean[] results = new boolean[tapes.size()];
+    ArrayDeque<CompletableFuture<Void>> inFlight = new ArrayDeque<>();
+    for (int from = 0; from < tapes.size(); from += chunkSize) {
+      if (inFlight.size() == window)
+        join(inFlight.poll());
+      int begin = from;
+      int end = Math.min(from + chunkSize, tapes.size());
+      inFlight.add(CompletableFuture.runAsync(() -> {
+        for (int i = begin; i < end; i++) {
+          results[i] = pool.evaluate(tapes.get(i), strategy);
+        }
+      }, executor));
+    }
+    while (!inFlight.isEmpty()) {
+      join(inFlight.poll());
+    }
+    return results;
+  }
+
+  /**
+   * Tests if each tape belongs to the
+   * language of the automaton.
+   *
+   * Tapes are taken from the stream as the
+   * results are consumed, so the stream can
+   * be longer than what fits in memory.
+   * Closing the result closes the stream
+   * of tapes.
+   *
+   * @param tapes to evaluate.
+   * @return the result of each tape,
+   *          in the same order.
+   * @throws NullPointerException if tapes
+   *          is {@code null}.
+   */
+  public Stream<Boolean> evaluate(Stream<Tape> tapes) {
+    if (tapes == null)
+      throw new NullPointerException("tapes can not be null.");
+
+    Iterator<Boolean> results = new Results(tapes.iterator());
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(results,
+            Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(tapes::close);
+  }
+
+  /**
+   * Waits for a task, throwing the
+   * exception that stopped it.
+   */
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException)
+        throw (RuntimeException) e.getCause();
+      if (e.getCause() instanceof Error)
+        throw (Error) e.getCause();
+      throw e;
+    }
+  }
+
+  /**
+   * Results of a stream of tapes,
+   * evaluated a window ahead.
+   */
+  private class Results implements Iterator<Boolean> {
+    private final Iterator<Tape> tapes;
+    private final ArrayDeque<CompletableFuture<boolean[]>> inFlight = new ArrayDeque<>();
+    private boolean[] chunk = new boolean[0];
+    private int next;
+
+    Results(Iterator<Tape> tapes) {
+      this.tapes = tapes;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (next < chunk.length)
+        return true;
+      submit();
+      if (inFlight.isEmpty())
+        return false;
+      chunk = join(inFlight.poll());
+      next = 0;
+      submit();
+      return true;
+    }
+
+    @Override
+    public Boolean next() {
+      if (!hasNext())
+        throw new NoSuchElementException();
+      return chunk[next++];
+    }
+
+    /**
+     * Submits chunks until the
+     * window is full.
+     */
+    private void submit() {
+      while (inFlight.size() < window && tapes.hasNext()) {
+        List<Tape> chunkTapes = new ArrayList<>(chunkSize);
+        while (chunkTapes.size() < chunkSize && tapes.hasNext()) {
+          chunkTapes.add(tapes.next());
+        }
+        inFlight.add(CompletableFuture.supplyAsync(() -> {
+          boolean[] results = new boolean[chunkTapes.size()];
+          for (int i = 0; i < results.length; i++) {
+            results[i] = pool.evaluate(chunkTapes.get(i), strategy);
+          }
+          return results;
+        }, executor));
+      }
+    }
+  }
+}
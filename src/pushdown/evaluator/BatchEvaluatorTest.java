@@ -0,0 +1,106 @@
+package pushdown.evaluator;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import pushdown.PushdownAutomaton;
+import pushdown.reader.PDAReader;
+import symbol.Symbol;
+import tape.Tape;
+
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * <h2>BatchEvaluatorTest</h2>
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class BatchEvaluatorTest {
+  PushdownAutomaton pda;
+  ExecutorService executor;
+
+  @Before
+  public void setUp() throws FileNotFoundException {
+    pda = new PDAReader(new FileReader("test/APf-2.txt")).getReadPDA();
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  public void listTest() {
+    List<Tape> tapes = tapes();
+    BatchEvaluator evaluator = new BatchEvaluator(pda.compile(),
+            EvaluationStrategy.DEPTH_FIRST, executor, 7, 3);
+    boolean[] results = evaluator.evaluate(tapes);
+    assertEquals(tapes.size(), results.length);
+    for (int i = 0; i < tapes.size(); i++) {
+      assertEquals(tapes.get(i).toString(), pda.evaluate(tapes.get(i)), results[i]);
+    }
+    assertTrue(Arrays.equals(results, pda.evaluate(tapes, executor)));
+  }
+
+  @Test
+  public void streamTest() {
+    List<Tape> tapes = tapes();
+    BatchEvaluator evaluator = new BatchEvaluator(new EvaluatorPool(pda.compile()),
+            EvaluationStrategy.GRAPH_STRUCTURED_STACK, executor, 5, 2);
+    List<Boolean> results = evaluator.evaluate(tapes.stream()).collect(Collectors.toList());
+    assertEquals(tapes.size(), results.size());
+    for (int i = 0; i < tapes.size(); i++) {
+      assertEquals(tapes.get(i).toString(), pda.evaluate(tapes.get(i)), results.get(i));
+    }
+  }
+
+  @Test
+  public void longStreamTest() {
+    // the tapes are created while the results are consumed.
+    Stream<Tape> tapes = IntStream.range(0, 200000).mapToObj(i -> new Tape(
+            Arrays.asList(new Symbol(i % 2 == 0 ? "0" : "1"), new Symbol("0"))));
+    long accepted = pda.evaluate(tapes, executor).filter(result -> result).count();
+    assertEquals(100000, accepted);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void nullTapeTest() {
+    List<Tape> tapes = tapes();
+    tapes.set(tapes.size() / 2, null);
+    pda.evaluate(tapes, executor);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void nullPoolTest() {
+    new BatchEvaluator((EvaluatorPool) null, EvaluationStrategy.DEPTH_FIRST, executor);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidWindowTest() {
+    new BatchEvaluator(pda.compile(), EvaluationStrategy.DEPTH_FIRST, executor, 1, 0);
+  }
+
+  private List<Tape> tapes() {
+    List<Symbol> alphabet = new ArrayList<>(pda.getInputAlphabet());
+    List<Tape> tapes = new ArrayList<>();
+    for (int length = 0; length <= 6; length++) {
+      for (List<Symbol> word : LanguageAssert.words(alphabet, length)) {
+        tapes.add(new Tape(word));
+      }
+    }
+    return tapes;
+  }
+}
@@ -0,0 +1,129 @@
+package pushdown.evaluator;
+
+import java.util.Arrays;
+
+/**
+ * <h2>CycleGuard</h2>
+ *
+ * Detector of computations that follow
+ * a cycle of empty transitions again.
+ *
+ * The configurations reached by empty
+ * transitions on a repeating state and
+ * top symbol are recorded for the
+ * current computation. A configuration
+ * re-enters a cycle when a recorded one,
+ * at the same head position, has the same
+ * state and top, and the same symbols below
+ * its top at the bottom of the current
+ * stack: from there the computation can
+ * only repeat what it did, pushing the
+ * same symbols again each time.
+ *
+ * Stacks are compared by the
+ * {@link StackHashes} of the owner, which
+ * it updates as symbols are pushed. Each
+ * record has a mark, and the
+ * records with a larger mark are removed
+ * when the computation backtracks.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+final class CycleGuard {
+
+  private static final int INITIAL_SIZE = 16;
+
+  /**
+   * Hashes of the stack of the owner.
+   */
+  private final StackHashes stackHashes;
+
+  /**
+   * Recorded configurations, stored
+   * in parallel arrays: the hashes are
+   * the ones of the stack below the top.
+   */
+  private int[] states = new int[INITIAL_SIZE];
+  private int[] tops = new int[INITIAL_SIZE];
+  private int[] heads = new int[INITIAL_SIZE];
+  private int[] sizes = new int[INITIAL_SIZE];
+  private int[] marks = new int[INITIAL_SIZE];
+  private long[] hashes = new long[INITIAL_SIZE];
+  private long[] checks = new long[INITIAL_SIZE];
+  private int records;
+
+  /**
+   * Constructor of the class.
+   *
+   * @param stackHashes of the stack of
+   *                    the owner.
+   */
+  CycleGuard(StackHashes stackHashes) {
+    this.stackHashes = stackHashes;
+  }
+
+  /**
+   * Removes every record.
+   */
+  void clear() {
+    records = 0;
+  }
+
+  /**
+   * Tests if a configuration re-enters a
+   * cycle of a recorded configuration,
+   * recording it otherwise.
+   *
+   * Records must be added in the order of
+   * the computation, so the ones at the
+   * same head position are the last ones.
+   *
+   * @param state of the configuration.
+   * @param top symbol on the top of the stack.
+   * @param head position of the configuration.
+   * @param size of the stack.
+   * @param mark of the record.
+   * @return {@code true} if it re-enters a cycle.
+   */
+  boolean reenters(int state, int top, int head, int size, int mark) {
+    for (int i = records - 1; i >= 0 && heads[i] == head; i--) {
+      int below = sizes[i] - 1;
+      if (states[i] == state && tops[i] == top && below < size
+              && hashes[i] == stackHashes.hash(below) && checks[i] == stackHashes.check(below))
+        return true;
+    }
+
+    if (records == states.length) {
+      int capacity = records * 2;
+      states = Arrays.copyOf(states, capacity);
+      tops = Arrays.copyOf(tops, capacity);
+      heads = Arrays.copyOf(heads, capacity);
+      sizes = Arrays.copyOf(sizes, capacity);
+      marks = Arrays.copyOf(marks, capacity);
+      hashes = Arrays.copyOf(hashes, capacity);
+      checks = Arrays.copyOf(checks, capacity);
+    }
+    states[records] = state;
+    tops[records] = top;
+    heads[records] = head;
+    sizes[records] = size;
+    marks[records] = mark;
+    hashes[records] = stackHashes.hash(size - 1);
+    checks[records] = stackHashes.check(size - 1);
+    records += 1;
+    return false;
+  }
+
+  /**
+   * Removes the records with a
+   * larger mark.
+   *
+   * @param mark to keep.
+   */
+  void release(int mark) {
+    while (records > 0 && marks[records - 1] > mark) {
+      records -= 1;
+    }
+  }
+}
@@ -0,0 +1,576 @@
+package pushdown.evaluator;
+
+import pushdown.analysis.EmptyClosure;
+import pushdown.analysis.EmptyCycles;
+import pushdown.analysis.InputBound;
+import pushdown.compiled.CompiledAutomaton;
+import pushdown.compiled.CompiledInput;
+import pushdown.compiled.CompiledTransitionFunction;
+import pushdown.stack.IntStack;
+import symbol.Symbol;
+import tape.Tape;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <h2>DepthFirstEvaluator</h2>
+ *
+ * Evaluator that explores the
+ * computations of a pushdown
+ * automaton in depth first order.
+ *
+ * Transitions are tried in the order
+ * of the transition function of the
+ * {@link EmptyClosure} of the automaton,
+ * where a whole chain of empty transitions
+ * is applied in one step. A printed
+ * evaluation uses the transition function
+ * of the automaton instead, so the trace
+ * shows its own transitions. There is
+ * a single configuration that is
+ * modified in place: every applied
+ * transition records its inverse on a
+ * trail, that is, the popped symbol, the
+ * number of pushed symbols and the
+ * previous state and head. Instead of
+ * recursion, every configuration where
+ * more than one transition can be
+ * applied is stored as a frame that
+ * only keeps the length of the trail,
+ * and backtracking to it undoes the
+ * transitions applied since then, so a
+ * branch costs as much as its
+ * transitions and not as its
+ * configurations. Optionally, the
+ * configurations that fail can be
+ * remembered with a {@link FailureMemo}.
+ *
+ * A configuration is abandoned as soon
+ * as the {@link InputBound} of its state
+ * and stack is larger than the input that
+ * remains to be read, since no accepting
+ * configuration can be reached from it.
+ * The bound of each part of the stack is
+ * kept as symbols are pushed, so it is
+ * checked in constant time.
+ *
+ * When the automaton has cycles of
+ * empty transitions, a {@link CycleGuard}
+ * cuts every computation that re-enters
+ * one of them at the same head position,
+ * so the search always ends. A cut branch
+ * may hide an accepting computation, so
+ * if the search rejects after a cut the
+ * input is decided by a
+ * {@link SaturationEvaluator}.
+ *
+ * Frames, trail, stack and the encoded
+ * input are buffers owned by the
+ * evaluator that are reused by the next
+ * evaluations, so once they have grown
+ * an evaluation allocates no memory for
+ * each symbol it reads.
+ *
+ * A word is accepted when the whole
+ * input has been read and the
+ * automaton is on an accepting state
+ * or its stack is empty.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class DepthFirstEvaluator implements Evaluator {
+
+  /**
+   * Initial number of frames
+   * and trail entries.
+   */
+  private static final int INITIAL_FRAMES = 16;
+
+  /**
+   * Automaton that is evaluated.
+   */
+  private final CompiledAutomaton automaton;
+
+  /**
+   * Transition table of the automaton
+   * with its empty closures, and the one
+   * used by the current evaluation.
+   */
+  private final CompiledTransitionFunction closedTable;
+  private CompiledTransitionFunction table;
+
+  /**
+   * Closures of the empty transitions.
+   */
+  private final EmptyClosure emptyClosure;
+
+  /**
+   * Minimum input needed to accept
+   * from each state and top symbol.
+   */
+  private final InputBound inputBound;
+
+  /**
+   * Cycles of the empty transitions.
+   */
+  private final EmptyCycles emptyCycles;
+
+  /**
+   * Detector of re-entered cycles,
+   * {@code null} if the automaton
+   * has no cycles.
+   */
+  private final CycleGuard cycleGuard;
+
+  /**
+   * If a branch has been cut
+   * by the cycle guard.
+   */
+  private boolean cut;
+
+  /**
+   * Evaluator of the inputs rejected
+   * after a cut, created the first
+   * time it is needed.
+   */
+  private SaturationEvaluator saturation;
+
+  /**
+   * Choice points: length of the trail
+   * when they were found, and the row
+   * positions that remain to be tried,
+   * stored in parallel arrays.
+   */
+  private int[] frameTrails;
+  private int[] frameNext;
+  private int[] frameEnd;
+  private int frames;
+
+  /**
+   * Inverse of the applied transitions,
+   * stored in parallel arrays. It is only
+   * recorded while there are frames.
+   */
+  private int[] trailStates;
+  private int[] trailHeads;
+  private int[] trailPopped;
+  private int[] trailPushed;
+  private int trail;
+
+  /**
+   * Buffer where tapes are encoded.
+   */
+  private final CompiledInput inputBuffer;
+
+  /**
+   * Current configuration.
+   */
+  private int state;
+  private int head;
+  private final IntStack stack = new IntStack();
+  private CompiledInput input;
+
+  /**
+   * Hashes of each prefix of the stack,
+   * kept while a failure memo or the
+   * cycle guard are used.
+   */
+  private final StackHashes stackHashes = new StackHashes();
+  private boolean hashing;
+
+  /**
+   * Input bound of each prefix of
+   * the stack. Position i has the
+   * bound of the i bottom symbols.
+   */
+  private int[] stackBounds = new int[INITIAL_FRAMES];
+
+  /**
+   * If the evaluation is
+   * printed as a trace.
+   */
+  private boolean printable;
+
+  /**
+   * Configurations known to fail,
+   * {@code null} if they are not stored.
+   */
+  private FailureMemo failureMemo;
+
+  /**
+   * Constructor of the class.
+   *
+   * @param automaton to evaluate.
+   * @throws NullPointerException if
+   *          automaton is {@code null}.
+   */
+  public DepthFirstEvaluator(CompiledAutomaton automaton) {
+    if (automaton == null)
+      throw new NullPointerException("automaton can not be null.");
+
+    this.automaton = automaton;
+    this.emptyClosure = automaton.getEmptyClosure();
+    this.closedTable = emptyClosure.getTransitionFunction();
+    this.table = closedTable;
+    this.inputBound = automaton.getInputBound();
+    this.emptyCycles = automaton.getEmptyCycles();
+    this.cycleGuard = emptyCycles.hasCycles() ? new CycleGuard(stackHashes) : null;
+    this.inputBuffer = new CompiledInput(automaton);
+    frameTrails = new int[INITIAL_FRAMES];
+    frameNext = new int[INITIAL_FRAMES];
+    frameEnd = new int[INITIAL_FRAMES];
+    trailStates = new int[INITIAL_FRAMES];
+    trailHeads = new int[INITIAL_FRAMES];
+    trailPopped = new int[INITIAL_FRAMES];
+    trailPushed = new int[INITIAL_FRAMES];
+  }
+
+  /**
+   * Tests if the evaluation is
+   * printed as a trace.
+   *
+   * @return {@code true} if it is printed.
+   */
+  public boolean isPrintable() {
+    return printable;
+  }
+
+  /**
+   * Sets if the evaluation is
+   * printed as a trace.
+   *
+   * @param printable {@code true} to print it.
+   */
+  public void setPrintable(boolean printable) {
+    this.printable = printable;
+  }
+
+  /**
+   * Returns the table of configurations
+   * known to fail.
+   *
+   * @return the table or {@code null}
+   *          if it is not used.
+   */
+  public FailureMemo getFailureMemo() {
+    return failureMemo;
+  }
+
+  /**
+   * Sets the table where configurations
+   * known to fail are stored.
+   *
+   * Every configuration where more than
+   * one transition can be applied is
+   * added to the table once all of its
+   * transitions have failed, and it is
+   * not explored again if another
+   * computation reaches it.
+   *
+   * @param failureMemo table to use, or
+   *                    {@code null} to
+   *                    not use any.
+   */
+  public void setFailureMemo(FailureMemo failureMemo) {
+    this.failureMemo = failureMemo;
+  }
+
+  /**
+   * Tests if the tape belongs to the
+   * language of the automaton.
+   *
+   * @param tape to evaluate.
+   * @return {@code true} if it is accepted.
+   * @throws NullPointerException if
+   *          tape is {@code null}.
+   */
+  @Override
+  public boolean evaluate(Tape tape) {
+    return evaluate(inputBuffer.load(tape));
+  }
+
+  /**
+   * Tests if the input belongs to the
+   * language of the automaton.
+   *
+   * @param input to evaluate.
+   * @return {@code true} if it is accepted.
+   * @throws NullPointerException if
+   *          input is {@code null}.
+   */
+  @Override
+  public boolean evaluate(CompiledInput input) {
+    if (input == null)
+      throw new NullPointerException("input can not be null.");
+
+    this.input = input;
+    table = printable ? automaton.getTransitionFunction() : closedTable;
+    state = automaton.getInitialState();
+    head = 0;
+    stack.clear();
+    hashing = failureMemo != null || cycleGuard != null;
+    cut = false;
+    if (cycleGuard != null)
+      cycleGuard.clear();
+    push(automaton.getInitialStackSymbol());
+    frames = 0;
+    trail = 0;
+    if (failureMemo != null)
+      failureMemo.clear();
+
+    int row = nextTransitions();
+    if (printable) {
+      printHeader();
+      printCurrentState(CompiledAutomaton.UNKNOWN_ID, row);
+    }
+    if (isAccepting())
+      return true;
+    if (isHopeless())
+      return false;
+
+    int next = table.rowBegin(row);
+    int end = table.rowEnd(row);
+    while (true) {
+      int transition;
+      if (next >= end) {
+        // dead end, continue on the last choice point.
+        if (frames == 0)
+          return cut && getSaturation().evaluate(input);
+        int frame = frames - 1;
+        undo(frameTrails[frame]);
+        if (frameNext[frame] >= frameEnd[frame]) {
+          if (failureMemo != null)
+            failureMemo.add(state, head, stack.size(),
+                    stackHashes.hash(stack.size()), stackHashes.check(stack.size()));
+          frames -= 1;
+          continue;
+        }
+        next = frameNext[frame];
+        end = frameEnd[frame];
+        frameNext[frame] += 1;
+      } else if (next + 1 < end) {
+        if (failureMemo != null && failureMemo.contains(state, head, stack.size(),
+                stackHashes.hash(stack.size()), stackHashes.check(stack.size()))) {
+          next = end;
+          continue;
+        }
+        pushFrame(next + 1, end);
+      }
+
+      transition = table.transitionAt(next);
+      applyTransition(transition);
+
+      if (isAccepting()) {
+        if (printable)
+          printCurrentState(transition, CompiledAutomaton.UNKNOWN_ID);
+        return true;
+      }
+      if (stack.isEmpty() || isHopeless() || reentersCycle(transition)) {
+        if (printable)
+          printCurrentState(transition, CompiledAutomaton.UNKNOWN_ID);
+        next = end;
+        continue;
+      }
+
+      row = nextTransitions();
+      if (printable)
+        printCurrentState(transition, row);
+      next = table.rowBegin(row);
+      end = table.rowEnd(row);
+    }
+  }
+
+  /**
+   * Applies the transition to the current
+   * configuration, recording its inverse
+   * on the trail if it may be undone.
+   *
+   * @param transition identifier.
+   */
+  private void applyTransition(int transition) {
+    if (frames > 0) {
+      if (trail == trailStates.length) {
+        int capacity = trail * 2;
+        trailStates = Arrays.copyOf(trailStates, capacity);
+        trailHeads = Arrays.copyOf(trailHeads, capacity);
+        trailPopped = Arrays.copyOf(trailPopped, capacity);
+        trailPushed = Arrays.copyOf(trailPushed, capacity);
+      }
+      trailStates[trail] = state;
+      trailHeads[trail] = head;
+      trailPopped[trail] = stack.peek();
+      trailPushed[trail] = table.pushEnd(transition) - table.pushBegin(transition);
+      trail += 1;
+    }
+
+    state = table.nextState(transition);
+    if (table.consumesInput(transition))
+      head += 1;
+    stack.pop();
+    for (int i = table.pushBegin(transition); i < table.pushEnd(transition); i++) {
+      push(table.pushedSymbol(i));
+    }
+  }
+
+  /**
+   * Undoes the transitions recorded on
+   * the trail after the specified length.
+   *
+   * @param length of the trail to keep.
+   */
+  private void undo(int length) {
+    while (trail > length) {
+      trail -= 1;
+      stack.truncate(stack.size() - trailPushed[trail]);
+      push(trailPopped[trail]);
+      state = trailStates[trail];
+      head = trailHeads[trail];
+    }
+    if (cycleGuard != null)
+      cycleGuard.release(length);
+  }
+
+  /**
+   * Pushes a symbol on the stack,
+   * updating its bound and its
+   * hashes if needed.
+   *
+   * @param symbol identifier.
+   */
+  private void push(int symbol) {
+    stack.push(symbol);
+    int size = stack.size();
+    if (size == stackBounds.length)
+      stackBounds = Arrays.copyOf(stackBounds, size * 2);
+    stackBounds[size] = inputBound.stackBound(symbol, stackBounds[size - 1]);
+    if (hashing)
+      stackHashes.push(size, symbol);
+  }
+
+  /**
+   * Stores the current choice point
+   * with the transitions that remain
+   * to be tried.
+   *
+   * @param next first transition position to try.
+   * @param end end of the row of transitions.
+   */
+  private void pushFrame(int next, int end) {
+    if (frames == frameTrails.length) {
+      int capacity = frames * 2;
+      frameTrails = Arrays.copyOf(frameTrails, capacity);
+      frameNext = Arrays.copyOf(frameNext, capacity);
+      frameEnd = Arrays.copyOf(frameEnd, capacity);
+    }
+    frameTrails[frames] = trail;
+    frameNext[frames] = next;
+    frameEnd[frames] = end;
+    frames += 1;
+  }
+
+  /**
+   * Looks up the transitions applicable
+   * on the current configuration.
+   *
+   * @return row of the transition table.
+   */
+  private int nextTransitions() {
+    return table.row(state, input.symbolAt(head), stack.peek());
+  }
+
+  /**
+   * Tests if the input that remains is
+   * not enough to accept from the
+   * current configuration.
+   *
+   * @return {@code true} if it can not accept.
+   */
+  private boolean isHopeless() {
+    int below = stackBounds[stack.size() - 1];
+    return inputBound.minimumInput(state, stack.peek(), below) > input.length() - head;
+  }
+
+  /**
+   * Tests if the transition that led to
+   * the current configuration re-enters a
+   * cycle of empty transitions, recording
+   * the branch as cut if it does.
+   *
+   * @param transition last applied transition.
+   * @return {@code true} if it re-enters one.
+   */
+  private boolean reentersCycle(int transition) {
+    if (cycleGuard == null || table.consumesInput(transition)
+            || !emptyCycles.isRepeating(state, stack.peek()))
+      return false;
+    if (cycleGuard.reenters(state, stack.peek(), head, stack.size(), trail)) {
+      cut = true;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns the evaluator of the
+   * inputs rejected after a cut.
+   *
+   * @return the evaluator.
+   */
+  private SaturationEvaluator getSaturation() {
+    if (saturation == null)
+      saturation = new SaturationEvaluator(automaton);
+    return saturation;
+  }
+
+  /**
+   * Tests if the current configuration
+   * accepts the input.
+   *
+   * @return {@code true} if it is accepting.
+   */
+  private boolean isAccepting() {
+    return input.hasReachedTheEnd(head)
+            && (automaton.isAccepting(state) || stack.isEmpty()
+            || !printable && emptyClosure.acceptsWithoutInput(state, stack.peek()));
+  }
+
+  private String getFormat() {
+    return "| %-25s | %-5s | %-" + (input.length() * 2 + 1) + "s | %-15s | ";
+  }
+
+  private void printCurrentState(int transition, int transitions) {
+    List<Symbol> symbols = new ArrayList<>();
+    for (int symbol : stack.toArray()) {
+      symbols.add(automaton.getStackSymbol(symbol));
+    }
+    String currentState = String.format(getFormat(),
+            transition == CompiledAutomaton.UNKNOWN_ID ?
+                    "-" : table.getTransition(transition).toString(),
+            automaton.getState(state),
+            input.toString(head),
+            symbols.toString());
+    if (transitions != CompiledAutomaton.UNKNOWN_ID) {
+      for (int i = table.rowBegin(transitions); i < table.rowEnd(transitions); i++) {
+        currentState += table.getTransition(table.transitionAt(i)) + "  ";
+      }
+    } else {
+      currentState += isAccepting() ? "ω ∈ L" : "ω ∉ L";
+    }
+
+    System.out.println(currentState);
+  }
+
+  private void printHeader() {
+    int n = 69 + input.length() * 2;
+
+    String header = String.join("", Collections.nCopies(n, "-")) + "\n";
+    header += String.format(getFormat(), "used transition", "state", "word (ω)", "stack");
+    header += "transitions\n";
+    header += String.join("", Collections.nCopies(n, "-"));
+    System.out.println(header);
+  }
+}
@@ -0,0 +1,262 @@
+package pushdown.evaluator;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import pushdown.PushdownAutomaton;
+import pushdown.reader.PDAReader;
+import symbol.Symbol;
+import tape.Tape;
+import tape.reader.TapeReader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h2>DepthFirstEvaluatorTest</h2>
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class DepthFirstEvaluatorTest {
+  PushdownAutomaton pda;
+  DepthFirstEvaluator evaluator;
+
+  @Before
+  public void setUp() throws FileNotFoundException {
+    PDAReader reader = new PDAReader(new FileReader("test/AP2.txt"));
+    pda = reader.getReadPDA();
+    evaluator = new DepthFirstEvaluator(pda.compile());
+  }
+
+  @Test
+  public void evaluationTest() {
+    assertTrue(evaluator.evaluate(new TapeReader("a a b b").getReadTapes().get(0)));
+    assertFalse(evaluator.evaluate(new TapeReader("a a a b b").getReadTapes().get(0)));
+    assertFalse(evaluator.evaluate(new TapeReader("b a").getReadTapes().get(0)));
+  }
+
+  @Test
+  public void longInputTest() {
+    int n = 200000;
+    assertTrue(evaluator.evaluate(balancedTape(n, n)));
+    assertFalse(evaluator.evaluate(balancedTape(n, n - 1)));
+  }
+
+  @Test
+  public void backtrackingTest() throws FileNotFoundException {
+    PDAReader reader = new PDAReader(new FileReader("test/APf-2.txt"));
+    evaluator = new DepthFirstEvaluator(reader.getReadPDA().compile());
+
+    // the middle of the word is only found after undoing every push.
+    List<Symbol> symbols = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      symbols.add(new Symbol(i % 3 == 0 ? "1" : "0"));
+    }
+    for (int i = 999; i >= 0; i--) {
+      symbols.add(new Symbol(i % 3 == 0 ? "1" : "0"));
+    }
+    assertTrue(evaluator.evaluate(new Tape(symbols)));
+
+    symbols.set(1500, new Symbol(symbols.get(1500).equals(new Symbol("0")) ? "1" : "0"));
+    assertFalse(evaluator.evaluate(new Tape(symbols)));
+    assertTrue(evaluator.evaluate(new TapeReader("1 0 0 1").getReadTapes().get(0)));
+  }
+
+  @Test
+  public void hopelessBranchTest() {
+    PDAReader reader = new PDAReader(
+            "q d e f\n" +
+            "a b\n" +
+            "S\n" +
+            "q\n" +
+            "S\n" +
+            "f\n" +
+            "q a S q S\n" +
+            "q a S d S\n" +
+            "d a S d S\n" +
+            "d a S e S\n" +
+            "e a S d S\n" +
+            "e a S e S\n" +
+            "q b S f S\n");
+    evaluator = new DepthFirstEvaluator(reader.getReadPDA().compile());
+
+    // d and e can not accept, so their computations are never explored.
+    List<Symbol> symbols = new ArrayList<>();
+    for (int i = 0; i < 64; i++) {
+      symbols.add(new Symbol("a"));
+    }
+    assertFalse(evaluator.evaluate(new Tape(symbols)));
+    symbols.add(new Symbol("b"));
+    assertTrue(evaluator.evaluate(new Tape(symbols)));
+  }
+
+  @Test
+  public void stackHeightBoundTest() {
+    PDAReader reader = new PDAReader(
+            "p q s\n" +
+            "a b\n" +
+            "S A\n" +
+            "p\n" +
+            "S\n" +
+            "s\n" +
+            "p . A p A A\n" +
+            "p a S p A S\n" +
+            "p a A p A A\n" +
+            "p b A q .\n" +
+            "q b A q .\n" +
+            "q . S s S\n");
+    evaluator = new DepthFirstEvaluator(reader.getReadPDA().compile());
+    evaluator.setFailureMemo(new FailureMemo());
+
+    // every A needs a b, so the empty pushes stop when there are more A than input.
+    assertTrue(evaluator.evaluate(balancedTape(30, 30)));
+    assertTrue(evaluator.evaluate(balancedTape(30, 40)));
+    assertFalse(evaluator.evaluate(balancedTape(30, 29)));
+    assertFalse(evaluator.evaluate(balancedTape(30, 0)));
+  }
+
+  @Test
+  public void failureMemoTest() {
+    PDAReader reader = new PDAReader(
+            "q p r f\n" +
+            "a b\n" +
+            "S\n" +
+            "q\n" +
+            "S\n" +
+            "f\n" +
+            "q a S p S\n" +
+            "q a S r S\n" +
+            "p . S q S\n" +
+            "r . S q S\n" +
+            "q b S f S\n");
+    evaluator = new DepthFirstEvaluator(reader.getReadPDA().compile());
+    FailureMemo memo = new FailureMemo(1024);
+    evaluator.setFailureMemo(memo);
+
+    // every a doubles the computations that reach the last a.
+    List<Symbol> symbols = new ArrayList<>();
+    for (int i = 0; i < 60; i++) {
+      symbols.add(new Symbol("a"));
+    }
+    symbols.add(new Symbol("a"));
+    assertFalse(evaluator.evaluate(new Tape(symbols)));
+    // the empty transitions to q are merged with the
+    // next a, so p and r are found again at each a.
+    assertEquals(118, memo.getHits());
+
+    symbols.set(60, new Symbol("b"));
+    assertTrue(evaluator.evaluate(new Tape(symbols)));
+  }
+
+  @Test
+  public void failureMemoCapacityTest() {
+    FailureMemo memo = new FailureMemo(1);
+    evaluator.setFailureMemo(memo);
+    assertEquals(1, memo.capacity());
+    assertTrue(evaluator.evaluate(balancedTape(1000, 1000)));
+    assertFalse(evaluator.evaluate(balancedTape(1000, 999)));
+  }
+
+  @Test
+  public void failureMemoEvictionTest() {
+    FailureMemo memo = new FailureMemo(1);
+    memo.add(0, 0, 1, 7, 11);
+    memo.add(0, 0, 1, 7, 11);
+    assertEquals(0, memo.getEvictions());
+    memo.add(0, 0, 1, 7, 13);
+    assertEquals(1, memo.getEvictions());
+    assertTrue(memo.contains(0, 0, 1, 7, 13));
+    assertFalse(memo.contains(0, 0, 1, 7, 11));
+  }
+
+  @Test(timeout = 10000)
+  public void growingCycleTest() {
+    // the first transition pushes S forever.
+    PDAReader reader = new PDAReader(
+            "q f\n" +
+            "a b\n" +
+            "S\n" +
+            "q\n" +
+            "S\n" +
+            "f\n" +
+            "q . S q S S\n" +
+            "q a S f S\n");
+    evaluator = new DepthFirstEvaluator(reader.getReadPDA().compile());
+    assertTrue(evaluator.evaluate(new TapeReader("a").getReadTapes().get(0)));
+    assertFalse(evaluator.evaluate(new TapeReader("b").getReadTapes().get(0)));
+    assertFalse(evaluator.evaluate(new TapeReader("a a").getReadTapes().get(0)));
+  }
+
+  @Test(timeout = 10000)
+  public void neutralCycleTest() {
+    PDAReader reader = new PDAReader(
+            "q p f\n" +
+            "a b\n" +
+            "S\n" +
+            "q\n" +
+            "S\n" +
+            "f\n" +
+            "q . S p S\n" +
+            "p . S q S\n" +
+            "p a S f S\n" +
+            "f b S q S\n");
+    evaluator = new DepthFirstEvaluator(reader.getReadPDA().compile());
+    evaluator.setFailureMemo(new FailureMemo(64));
+    assertTrue(evaluator.evaluate(new TapeReader("a b a").getReadTapes().get(0)));
+    assertFalse(evaluator.evaluate(new TapeReader("a b").getReadTapes().get(0)));
+    assertFalse(evaluator.evaluate(new TapeReader("b").getReadTapes().get(0)));
+  }
+
+  @Test
+  public void traceTest() throws FileNotFoundException, UnsupportedEncodingException {
+    PushdownAutomaton palindromes = new PDAReader(new FileReader("test/APf-2.txt")).getReadPDA();
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    PrintStream out = System.out;
+    System.setOut(new PrintStream(output, true, "UTF-8"));
+    try {
+      assertTrue(palindromes.trace(new TapeReader("0 1 1 0").getReadTapes().get(0)));
+    } finally {
+      System.setOut(out);
+    }
+
+    // only transitions of the automaton are printed.
+    String expected =
+            "-----------------------------------------------------------------------------\n" +
+            "| used transition           | state | word (ω)  | stack           | transitions\n" +
+            "-----------------------------------------------------------------------------\n" +
+            "| -                         | p     | 0 1 1 0 $ | [S]             | (p, 0, S) → (p, [0, S])  (p, ε, S) → (q, [S])  \n" +
+            "| (p, 0, S) → (p, [0, S])   | p     | 1 1 0 $   | [S, 0]          | (p, 1, 0) → (p, [1, 0])  (p, ε, 0) → (q, [0])  \n" +
+            "| (p, 1, 0) → (p, [1, 0])   | p     | 1 0 $     | [S, 0, 1]       | (p, 1, 1) → (p, [1, 1])  (p, ε, 1) → (q, [1])  \n" +
+            "| (p, 1, 1) → (p, [1, 1])   | p     | 0 $       | [S, 0, 1, 1]    | ω ∉ L\n" +
+            "| (p, ε, 1) → (q, [1])      | q     | 1 0 $     | [S, 0, 1]       | (q, 1, 1) → (q, [ε])  \n" +
+            "| (q, 1, 1) → (q, [ε])      | q     | 0 $       | [S, 0]          | (q, 0, 0) → (q, [ε])  \n" +
+            "| (q, 0, 0) → (q, [ε])      | q     | $         | [S]             | (q, ε, S) → (r, [S])  \n" +
+            "| (q, ε, S) → (r, [S])      | r     | $         | [S]             | ω ∈ L\n";
+    assertEquals(expected, output.toString("UTF-8"));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void nullAutomatonTest() {
+    new DepthFirstEvaluator(null);
+  }
+
+  private Tape balancedTape(int as, int bs) {
+    List<Symbol> symbols = new ArrayList<>();
+    Symbol a = new Symbol("a");
+    Symbol b = new Symbol("b");
+    for (int i = 0; i < as; i++) {
+      symbols.add(a);
+    }
+    for (int i = 0; i < bs; i++) {
+      symbols.add(b);
+    }
+    return new Tape(symbols);
+  }
+}
@@ -0,0 +1,193 @@
+package pushdown.evaluator;
+
+import pushdown.analysis.EmptyCycles;
+import pushdown.compiled.CompiledAutomaton;
+import pushdown.compiled.CompiledInput;
+import pushdown.compiled.CompiledTransitionFunction;
+import pushdown.stack.SymbolStack;
+import tape.Tape;
+
+/**
+ * <h2>DeterministicEvaluator</h2>
+ *
+ * Evaluator of deterministic pushdown
+ * automata.
+ *
+ * At most one transition can be
+ * applied on each configuration, so
+ * there is a single computation and
+ * it is followed without choice
+ * points. The stack is a
+ * {@link SymbolStack} that is modified
+ * in place, packed when the stack
+ * alphabet is small, and both the stack
+ * and the encoded input are reused
+ * between evaluations, so once they have
+ * grown an evaluation allocates no
+ * memory.
+ *
+ * A computation that re-enters a cycle
+ * of empty transitions at the same head
+ * position is detected by a
+ * {@link CycleGuard}. The symbols below
+ * the top are only compared by their
+ * hashes, and they may have been removed
+ * and pushed again, so the computation is
+ * not known to repeat forever and the
+ * input is then decided by a
+ * {@link SaturationEvaluator}.
+ *
+ * A word is accepted when the whole
+ * input has been read and the
+ * automaton is on an accepting state
+ * or its stack is empty.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class DeterministicEvaluator implements Evaluator {
+
+  /**
+   * Automaton that is evaluated.
+   */
+  private final CompiledAutomaton automaton;
+
+  /**
+   * Transition table of the automaton.
+   */
+  private final CompiledTransitionFunction table;
+
+  /**
+   * Stack of the computation.
+   */
+  private final SymbolStack stack;
+
+  /**
+   * Buffer where tapes are encoded.
+   */
+  private final CompiledInput inputBuffer;
+
+  /**
+   * Cycles of the empty transitions.
+   */
+  private final EmptyCycles emptyCycles;
+
+  /**
+   * Detector of re-entered cycles,
+   * {@code null} if the automaton
+   * has no cycles.
+   */
+  private final CycleGuard cycleGuard;
+
+  /**
+   * Hashes of each prefix of the stack,
+   * kept while the cycle guard is used.
+   */
+  private final StackHashes stackHashes = new StackHashes();
+
+  /**
+   * Evaluator of the inputs whose
+   * computation re-enters a cycle,
+   * created the first time it is needed.
+   */
+  private SaturationEvaluator saturation;
+
+  /**
+   * Constructor of the class.
+   *
+   * @param automaton to evaluate.
+   * @throws NullPointerException if
+   *          automaton is {@code null}.
+   * @throws IllegalArgumentException if
+   *          automaton is not deterministic.
+   */
+  public DeterministicEvaluator(CompiledAutomaton automaton) {
+    if (automaton == null)
+      throw new NullPointerException("automaton can not be null.");
+    if (!automaton.getTransitionFunction().isDeterministic())
+      throw new IllegalArgumentException("automaton is not deterministic.");
+
+    this.automaton = automaton;
+    this.table = automaton.getTransitionFunction();
+    this.inputBuffer = new CompiledInput(automaton);
+    this.stack = SymbolStack.forAlphabet(automaton.numberOfStackSymbols());
+    this.emptyCycles = automaton.getEmptyCycles();
+    this.cycleGuard = emptyCycles.hasCycles() ? new CycleGuard(stackHashes) : null;
+  }
+
+  /**
+   * Tests if the tape belongs to the
+   * language of the automaton.
+   *
+   * @param tape to evaluate.
+   * @return {@code true} if it is accepted.
+   * @throws NullPointerException if
+   *          tape is {@code null}.
+   */
+  @Override
+  public boolean evaluate(Tape tape) {
+    return evaluate(inputBuffer.load(tape));
+  }
+
+  /**
+   * Tests if the input belongs to the
+   * language of the automaton.
+   *
+   * @param input to evaluate.
+   * @return {@code true} if it is accepted.
+   * @throws NullPointerException if
+   *          input is {@code null}.
+   */
+  @Override
+  public boolean evaluate(CompiledInput input) {
+    if (input == null)
+      throw new NullPointerException("input can not be null.");
+
+    int state = automaton.getInitialState();
+    int head = 0;
+    stack.clear();
+    push(automaton.getInitialStackSymbol());
+    if (cycleGuard != null)
+      cycleGuard.clear();
+
+    while (true) {
+      if (input.hasReachedTheEnd(head) && automaton.isAccepting(state))
+        return true;
+
+      int row = table.row(state, input.symbolAt(head), stack.peek());
+      if (table.rowBegin(row) == table.rowEnd(row))
+        return false;
+
+      int transition = table.transitionAt(table.rowBegin(row));
+      state = table.nextState(transition);
+      if (table.consumesInput(transition))
+        head += 1;
+      stack.pop();
+      for (int i = table.pushBegin(transition); i < table.pushEnd(transition); i++) {
+        push(table.pushedSymbol(i));
+      }
+
+      if (stack.isEmpty())
+        return input.hasReachedTheEnd(head);
+      if (cycleGuard != null && !table.consumesInput(transition)
+              && emptyCycles.isRepeating(state, stack.peek())
+              && cycleGuard.reenters(state, stack.peek(), head, stack.size(), 0)) {
+        if (saturation == null)
+          saturation = new SaturationEvaluator(automaton);
+        return saturation.evaluate(input);
+      }
+    }
+  }
+
+  /**
+   * Pushes a symbol on the stack,
+   * updating its hashes if needed.
+   *
+   * @param symbol identifier.
+   */
+  private void push(int symbol) {
+    stack.push(symbol);
+    if (cycleGuard != null)
+      stackHashes.push(stack.size(), symbol);
+  }
+}
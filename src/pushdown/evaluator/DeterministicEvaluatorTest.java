@@ -0,0 +1,99 @@
+package pushdown.evaluator;
+
+import static org.junit.Assert.*;
+import static pushdown.evaluator.LanguageAssert.assertSameLanguage;
+
+import org.junit.Test;
+import pushdown.PushdownAutomaton;
+import pushdown.reader.PDAReader;
+import symbol.Symbol;
+import tape.Tape;
+import tape.reader.TapeReader;
+
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h2>DeterministicEvaluatorTest</h2>
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class DeterministicEvaluatorTest {
+
+  @Test
+  public void determinismTest() throws FileNotFoundException {
+    String[] deterministic = {"test/AP1.txt", "test/AP2.txt", "test/APf.txt"};
+    String[] nonDeterministic = {"test/AP3.txt", "test/AP4.txt", "test/AP5.txt",
+            "test/AP6.txt", "test/APf-2.txt"};
+    for (String file : deterministic) {
+      PushdownAutomaton pda = new PDAReader(new FileReader(file)).getReadPDA();
+      assertTrue(file, pda.compile().getTransitionFunction().isDeterministic());
+    }
+    for (String file : nonDeterministic) {
+      PushdownAutomaton pda = new PDAReader(new FileReader(file)).getReadPDA();
+      assertFalse(file, pda.compile().getTransitionFunction().isDeterministic());
+    }
+  }
+
+  @Test
+  public void emptyTransitionTest() {
+    // the empty transition of q with S
+    // conflicts with the one that reads a.
+    PDAReader reader = new PDAReader(
+            "q f\n" +
+            "a\n" +
+            "S\n" +
+            "q\n" +
+            "S\n" +
+            "f\n" +
+            "q a S q S\n" +
+            "q . S f S\n");
+    PushdownAutomaton pda = reader.getReadPDA();
+    assertFalse(pda.compile().getTransitionFunction().isDeterministic());
+  }
+
+  @Test
+  public void sameLanguageTest() throws FileNotFoundException {
+    String[] files = {"test/AP1.txt", "test/AP2.txt", "test/APf.txt"};
+    assertSameLanguage(files, 8, pda -> new DeterministicEvaluator(pda.compile())::evaluate);
+    assertSameLanguage(files, 8, pda -> pda::evaluate);
+  }
+
+  @Test
+  public void longInputTest() throws FileNotFoundException {
+    PushdownAutomaton pda = new PDAReader(new FileReader("test/AP2.txt")).getReadPDA();
+    Evaluator evaluator = new DeterministicEvaluator(pda.compile());
+    int n = 1000000;
+    List<Symbol> symbols = new ArrayList<>();
+    for (int i = 0; i < 2 * n; i++) {
+      symbols.add(new Symbol(i < n ? "a" : "b"));
+    }
+    assertTrue(evaluator.evaluate(new Tape(symbols)));
+    symbols.remove(symbols.size() - 1);
+    assertFalse(evaluator.evaluate(new Tape(symbols)));
+  }
+
+  @Test(timeout = 10000)
+  public void growingCycleTest() {
+    PDAReader reader = new PDAReader(
+            "q\n" +
+            "a\n" +
+            "S\n" +
+            "q\n" +
+            "S\n" +
+            "q\n" +
+            "q . S q S S\n");
+    Evaluator evaluator = new DeterministicEvaluator(reader.getReadPDA().compile());
+    assertTrue(evaluator.evaluate(new Tape(new ArrayList<>())));
+    assertFalse(evaluator.evaluate(new TapeReader("a").getReadTapes().get(0)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nonDeterministicAutomatonTest() throws FileNotFoundException {
+    PushdownAutomaton pda = new PDAReader(new FileReader("test/AP3.txt")).getReadPDA();
+    new DeterministicEvaluator(pda.compile());
+  }
+}
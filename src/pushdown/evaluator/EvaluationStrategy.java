@@ -0,0 +1,99 @@
+package pushdown.evaluator;
+
+import pushdown.compiled.CompiledAutomaton;
+import pushdown.grammar.CYKRecognizer;
+import pushdown.grammar.EarleyRecognizer;
+
+/**
+ * Enum representing the algorithms
+ * that can evaluate an input on a
+ * pushdown automaton.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public enum EvaluationStrategy {
+
+  /**
+   * Backtracking search of one
+   * computation at a time. Deterministic
+   * automata only have one computation,
+   * which is followed without choice
+   * points.
+   */
+  DEPTH_FIRST {
+    @Override
+    public Evaluator newEvaluator(CompiledAutomaton automaton) {
+      if (automaton != null && automaton.getTransitionFunction().isDeterministic())
+        return new DeterministicEvaluator(automaton);
+      return new DepthFirstEvaluator(automaton);
+    }
+  },
+
+  /**
+   * Backtracking search whose branches
+   * are explored in parallel.
+   */
+  PARALLEL_DEPTH_FIRST {
+    @Override
+    public Evaluator newEvaluator(CompiledAutomaton automaton) {
+      return new ParallelDepthFirstEvaluator(automaton);
+    }
+  },
+
+  /**
+   * Simulation of every computation at
+   * once, sharing their stacks.
+   */
+  GRAPH_STRUCTURED_STACK {
+    @Override
+    public Evaluator newEvaluator(CompiledAutomaton automaton) {
+      return new GraphStructuredStackEvaluator(automaton);
+    }
+  },
+
+  /**
+   * Parsing of the input with the
+   * grammar of the automaton.
+   */
+  EARLEY {
+    @Override
+    public Evaluator newEvaluator(CompiledAutomaton automaton) {
+      return new EarleyRecognizer(automaton);
+    }
+  },
+
+  /**
+   * Parsing of the input with the normal
+   * form of the grammar of the automaton,
+   * in parallel.
+   */
+  CYK {
+    @Override
+    public Evaluator newEvaluator(CompiledAutomaton automaton) {
+      return new CYKRecognizer(automaton);
+    }
+  },
+
+  /**
+   * Saturation of the configurations
+   * that reach an accepting one.
+   */
+  SATURATION {
+    @Override
+    public Evaluator newEvaluator(CompiledAutomaton automaton) {
+      return new SaturationEvaluator(automaton);
+    }
+  };
+
+  /**
+   * Creates an evaluator of
+   * this strategy.
+   *
+   * @param automaton to evaluate.
+   * @return the new evaluator.
+   * @throws NullPointerException if
+   *          automaton is {@code null}.
+   */
+  public abstract Evaluator newEvaluator(CompiledAutomaton automaton);
+}
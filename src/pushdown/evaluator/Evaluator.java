@@ -0,0 +1,44 @@
+package pushdown.evaluator;
+
+import pushdown.compiled.CompiledInput;
+import tape.Tape;
+
+/**
+ * <h2>Evaluator</h2>
+ *
+ * Algorithm that decides if an input
+ * belongs to the language of a
+ * compiled pushdown automaton.
+ *
+ * A word is accepted when the whole
+ * input has been read and the
+ * automaton is on an accepting state
+ * or its stack is empty.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public interface Evaluator {
+
+  /**
+   * Tests if the tape belongs to the
+   * language of the automaton.
+   *
+   * @param tape to evaluate.
+   * @return {@code true} if it is accepted.
+   * @throws NullPointerException if
+   *          tape is {@code null}.
+   */
+  boolean evaluate(Tape tape);
+
+  /**
+   * Tests if the input belongs to the
+   * language of the automaton.
+   *
+   * @param input to evaluate.
+   * @return {@code true} if it is accepted.
+   * @throws NullPointerException if
+   *          input is {@code null}.
+   */
+  boolean evaluate(CompiledInput input);
+}
@@ -0,0 +1,140 @@
+package pushdown.evaluator;
+
+import pushdown.compiled.CompiledAutomaton;
+import pushdown.compiled.CompiledInput;
+import tape.Tape;
+
+/**
+ * <h2>EvaluatorPool</h2>
+ *
+ * Evaluators of a compiled automaton
+ * pooled per thread.
+ *
+ * Each thread keeps one evaluator of
+ * each strategy, created the first time
+ * it is needed and reused by the next
+ * evaluations of the thread, so the
+ * pool is shared by any number of
+ * threads without locking. If an
+ * evaluation starts while the evaluator
+ * of the thread is still in use, as
+ * happens when a fork join worker runs
+ * another task in the middle of an
+ * evaluation, a new evaluator is used
+ * for it.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public final class EvaluatorPool {
+
+  /**
+   * Evaluator of a thread.
+   */
+  private static final class Slot {
+    Evaluator evaluator;
+    boolean busy;
+  }
+
+  private final CompiledAutomaton automaton;
+  private final ThreadLocal<Slot[]> slots;
+
+  /**
+   * Constructor of the class.
+   *
+   * @param automaton to evaluate.
+   * @throws NullPointerException if
+   *          automaton is {@code null}.
+   */
+  public EvaluatorPool(CompiledAutomaton automaton) {
+    if (automaton == null)
+      throw new NullPointerException("automaton can not be null.");
+
+    this.automaton = automaton;
+    this.slots = ThreadLocal.withInitial(() -> new Slot[EvaluationStrategy.values().length]);
+  }
+
+  /**
+   * Returns the automaton evaluated
+   * by the pool.
+   *
+   * @return the compiled automaton.
+   */
+  public CompiledAutomaton getAutomaton() {
+    return automaton;
+  }
+
+  /**
+   * Tests if the tape belongs to the
+   * language of the automaton.
+   *
+   * @param tape to evaluate.
+   * @param strategy of the evaluation.
+   * @return {@code true} if it is accepted.
+   * @throws NullPointerException if any
+   *          parameter is {@code null}.
+   */
+  public boolean evaluate(Tape tape, EvaluationStrategy strategy) {
+    if (tape == null)
+      throw new NullPointerException("tape can not be null.");
+    if (strategy == null)
+      throw new NullPointerException("strategy can not be null.");
+
+    Slot slot = slot(strategy);
+    if (slot.busy)
+      return strategy.newEvaluator(automaton).evaluate(tape);
+
+    slot.busy = true;
+    try {
+      return slot.evaluator.evaluate(tape);
+    } finally {
+      slot.busy = false;
+    }
+  }
+
+  /**
+   * Tests if the input belongs to the
+   * language of the automaton.
+   *
+   * @param input to evaluate.
+   * @param strategy of the evaluation.
+   * @return {@code true} if it is accepted.
+   * @throws NullPointerException if any
+   *          parameter is {@code null}.
+   */
+  public boolean evaluate(CompiledInput input, EvaluationStrategy strategy) {
+    if (input == null)
+      throw new NullPointerException("input can not be null.");
+    if (strategy == null)
+      throw new NullPointerException("strategy can not be null.");
+
+    Slot slot = slot(strategy);
+    if (slot.busy)
+      return strategy.newEvaluator(automaton).evaluate(input);
+
+    slot.busy = true;
+    try {
+      return slot.evaluator.evaluate(input);
+    } finally {
+      slot.busy = false;
+    }
+  }
+
+  /**
+   * Returns the slot of the strategy
+   * on the current thread.
+   *
+   * @param strategy of the evaluator.
+   * @return the slot.
+   */
+  private Slot slot(EvaluationStrategy strategy) {
+    Slot[] threadSlots = slots.get();
+    Slot slot = threadSlots[strategy.ordinal()];
+    if (slot == null) {
+      slot = new Slot();
+      slot.evaluator = strategy.newEvaluator(automaton);
+      threadSlots[strategy.ordinal()] = slot;
+    }
+    return slot;
+  }
+}
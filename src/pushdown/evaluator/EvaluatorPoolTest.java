@@ -0,0 +1,79 @@
+package pushdown.evaluator;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.Test;
+import pushdown.PushdownAutomaton;
+import pushdown.reader.PDAReader;
+import symbol.Symbol;
+import tape.Tape;
+
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h2>EvaluatorPoolTest</h2>
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class EvaluatorPoolTest {
+
+  /**
+   * Bytes that an evaluation may allocate
+   * regardless of the length of the input.
+   */
+  private static final long ALLOCATION_PER_EVALUATION = 256;
+
+  @Test
+  public void deterministicAllocationTest() throws FileNotFoundException {
+    // a^n b^n, with a single computation.
+    PushdownAutomaton pda = new PDAReader(new FileReader("test/AP2.txt")).getReadPDA();
+    List<Symbol> symbols = new ArrayList<>();
+    for (int i = 0; i < 20000; i++) {
+      symbols.add(new Symbol(i < 10000 ? "a" : "b"));
+    }
+    assertAllocationFree(pda, new Tape(symbols), true);
+  }
+
+  @Test
+  public void nondeterministicAllocationTest() throws FileNotFoundException {
+    // even palindromes, with a choice point on each symbol.
+    PushdownAutomaton pda = new PDAReader(new FileReader("test/APf-2.txt")).getReadPDA();
+    List<Symbol> symbols = new ArrayList<>();
+    for (int i = 0; i < 400; i++) {
+      symbols.add(new Symbol(i % 3 == 0 ? "1" : "0"));
+    }
+    for (int i = symbols.size() - 1; i >= 0; i--) {
+      symbols.add(symbols.get(i));
+    }
+    assertAllocationFree(pda, new Tape(symbols), true);
+    symbols.remove(0);
+    assertAllocationFree(pda, new Tape(symbols), false);
+  }
+
+  private void assertAllocationFree(PushdownAutomaton pda, Tape tape, boolean expected) {
+    ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assumeTrue("allocation counter is not available",
+            threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+    // warm up the pooled evaluator of this thread.
+    for (int i = 0; i < 200; i++) {
+      assertEquals(expected, pda.evaluate(tape));
+    }
+    int evaluations = 100;
+    long thread = Thread.currentThread().getId();
+    long before = threads.getThreadAllocatedBytes(thread);
+    for (int i = 0; i < evaluations; i++) {
+      pda.evaluate(tape);
+    }
+    long allocated = threads.getThreadAllocatedBytes(thread) - before;
+    assertTrue(allocated + " bytes allocated",
+            allocated <= evaluations * ALLOCATION_PER_EVALUATION);
+  }
+}
@@ -0,0 +1,227 @@
+package pushdown.evaluator;
+
+import java.util.Arrays;
+
+/**
+ * <h2>FailureMemo</h2>
+ *
+ * Bounded table of configurations
+ * from which no accepting
+ * configuration can be reached.
+ *
+ * Configurations are identified by
+ * their state, the position of the
+ * head and a fingerprint of the stack:
+ * its size and two independent rolling
+ * hashes of its symbols. Two different
+ * stacks of the same size would have
+ * to agree on both hashes, 128 bits,
+ * to be taken as equal, so the stack
+ * itself is not stored. The table has a fixed number
+ * of entries, and a configuration that
+ * falls on an occupied entry replaces
+ * the previous one, so its memory does
+ * not grow with the input.
+ *
+ * Entries only describe the input and
+ * the stacks of the evaluation that
+ * added them, so the table is cleared
+ * every time a new evaluation starts.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class FailureMemo {
+
+  /**
+   * Default number of entries.
+   */
+  public static final int DEFAULT_CAPACITY = 1 << 16;
+
+  /**
+   * Entries of the table,
+   * stored in parallel arrays.
+   */
+  private final int[] generations;
+  private final int[] states;
+  private final int[] heads;
+  private final int[] sizes;
+  private final long[] hashes;
+  private final long[] checks;
+  private final int mask;
+
+  /**
+   * Generation of the current
+   * evaluation. Entries of older
+   * generations are empty.
+   */
+  private int generation;
+
+  /**
+   * Statistics of the table.
+   */
+  private long hits;
+  private long misses;
+  private long evictions;
+
+  /**
+   * Constructor of a table with
+   * the default capacity.
+   */
+  public FailureMemo() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructor of the class.
+   *
+   * The capacity is rounded up to a
+   * power of two. Each entry takes
+   * 32 bytes.
+   *
+   * @param capacity maximum number of
+   *                 configurations.
+   * @throws IllegalArgumentException if
+   *          capacity is not positive.
+   */
+  public FailureMemo(int capacity) {
+    if (capacity <= 0 || capacity > 1 << 30)
+      throw new IllegalArgumentException("capacity must be between 1 and 2^30.");
+
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity)
+      size <<= 1;
+    generations = new int[size];
+    states = new int[size];
+    heads = new int[size];
+    sizes = new int[size];
+    hashes = new long[size];
+    checks = new long[size];
+    mask = size - 1;
+    generation = 1;
+  }
+
+  /**
+   * Returns the maximum number
+   * of configurations.
+   *
+   * @return capacity of the table.
+   */
+  public int capacity() {
+    return mask + 1;
+  }
+
+  /**
+   * Removes all the configurations.
+   */
+  public void clear() {
+    generation += 1;
+    if (generation == 0) {
+      Arrays.fill(generations, 0);
+      generation = 1;
+    }
+  }
+
+  /**
+   * Tests if the configuration
+   * is known to fail.
+   *
+   * @param state of the configuration.
+   * @param head position of the head.
+   * @param size of the stack.
+   * @param hash of the stack.
+   * @param check second hash of the stack.
+   * @return {@code true} if it fails.
+   */
+  public boolean contains(int state, int head, int size, long hash, long check) {
+    int i = index(state, head, hash);
+    if (generations[i] == generation
+            && states[i] == state
+            && heads[i] == head
+            && sizes[i] == size
+            && hashes[i] == hash
+            && checks[i] == check) {
+      hits += 1;
+      return true;
+    }
+    misses += 1;
+    return false;
+  }
+
+  /**
+   * Adds a configuration that fails.
+   *
+   * @param state of the configuration.
+   * @param head position of the head.
+   * @param size of the stack.
+   * @param hash of the stack.
+   * @param check second hash of the stack.
+   */
+  public void add(int state, int head, int size, long hash, long check) {
+    int i = index(state, head, hash);
+    if (generations[i] == generation
+            && (states[i] != state
+            || heads[i] != head
+            || sizes[i] != size
+            || hashes[i] != hash
+            || checks[i] != check))
+      evictions += 1;
+    generations[i] = generation;
+    states[i] = state;
+    heads[i] = head;
+    sizes[i] = size;
+    hashes[i] = hash;
+    checks[i] = check;
+  }
+
+  /**
+   * Returns the number of lookups
+   * that found the configuration.
+   *
+   * @return number of hits.
+   */
+  public long getHits() {
+    return hits;
+  }
+
+  /**
+   * Returns the number of lookups
+   * that did not find the configuration.
+   *
+   * @return number of misses.
+   */
+  public long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Returns the number of configurations
+   * replaced by another one.
+   *
+   * @return number of evictions.
+   */
+  public long getEvictions() {
+    return evictions;
+  }
+
+  /**
+   * Sets all statistics to zero.
+   */
+  public void resetStatistics() {
+    hits = 0;
+    misses = 0;
+    evictions = 0;
+  }
+
+  @Override
+  public String toString() {
+    return "hits = " + hits + ", misses = " + misses + ", evictions = " + evictions;
+  }
+
+  private int index(int state, int head, long stackHash) {
+    long key = stackHash;
+    key = (key ^ state) * 0x9E3779B97F4A7C15L;
+    key = (key ^ head) * 0xC2B2AE3D27D4EB4FL;
+    return (int) (key ^ (key >>> 32)) & mask;
+  }
+}
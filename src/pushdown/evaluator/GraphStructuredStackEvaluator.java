@@ -0,0 +1,376 @@
+package pushdown.evaluator;
+
+import pushdown.compiled.CompiledAutomaton;
+import pushdown.compiled.CompiledInput;
+import pushdown.compiled.CompiledTransitionFunction;
+import tape.Tape;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <h2>GraphStructuredStackEvaluator</h2>
+ *
+ * Evaluator that simulates every
+ * computation of a pushdown automaton
+ * at once, one input position at a
+ * time.
+ *
+ * The stacks of all the computations
+ * are stored in a single graph, where
+ * each vertex is a stack symbol and its
+ * predecessors are the vertices that
+ * can be below it. Symbols pushed at
+ * the same position by the same state
+ * or transition are stored only once,
+ * so the size of the graph at each
+ * position is bounded by the automaton
+ * and the evaluation takes polynomial
+ * time, even for automata whose depth
+ * first search is exponential.
+ *
+ * Empty transitions are applied until
+ * no new configuration appears, so
+ * empty cycles that grow the stack
+ * end as cycles of the graph.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class GraphStructuredStackEvaluator implements Evaluator {
+
+  /**
+   * Stack symbol of the graph.
+   */
+  private static final class Vertex {
+    final int id;
+    final int symbol;
+    final int level;
+
+    /**
+     * Vertices that can be below
+     * this one on the stack.
+     */
+    final List<Vertex> below = new ArrayList<>(2);
+
+    /**
+     * Work that has to be repeated
+     * when a vertex is added below,
+     * {@code null} if there is none.
+     */
+    List<Listener> listeners;
+
+    Vertex(int id, int symbol, int level) {
+      this.id = id;
+      this.symbol = symbol;
+      this.level = level;
+    }
+  }
+
+  /**
+   * Work pending on a vertex.
+   *
+   * If the cell is {@code null} it is a
+   * configuration with the given state on
+   * every vertex below, otherwise the
+   * vertices below are also below the cell.
+   */
+  private static final class Listener {
+    final int state;
+    final int level;
+    final Vertex cell;
+
+    Listener(int state, int level, Vertex cell) {
+      this.state = state;
+      this.level = level;
+      this.cell = cell;
+    }
+  }
+
+  /**
+   * Configurations and vertices
+   * of an input position.
+   */
+  private static final class Level {
+    final Map<Long, Vertex> tops = new HashMap<>();
+    final Map<Long, Vertex> cells = new HashMap<>();
+    final Set<Long> edges = new HashSet<>();
+    final Set<Long> configurations = new HashSet<>();
+    int[] states = new int[16];
+    Vertex[] vertices = new Vertex[16];
+    int size;
+
+    void clear() {
+      for (Vertex vertex : tops.values()) {
+        vertex.listeners = null;
+      }
+      for (Vertex vertex : cells.values()) {
+        vertex.listeners = null;
+      }
+      tops.clear();
+      cells.clear();
+      edges.clear();
+      configurations.clear();
+      Arrays.fill(vertices, 0, size, null);
+      size = 0;
+    }
+  }
+
+  /**
+   * Vertex below the bottom
+   * of the stack.
+   */
+  private static final Vertex BOTTOM = new Vertex(0, -1, -1);
+
+  /**
+   * Automaton that is evaluated.
+   */
+  private final CompiledAutomaton automaton;
+
+  /**
+   * Transition table of the automaton.
+   */
+  private final CompiledTransitionFunction table;
+
+  /**
+   * Current and next input positions.
+   */
+  private Level current = new Level();
+  private Level next = new Level();
+  private int position;
+
+  /**
+   * Edges added to the graph whose
+   * listeners have not been run yet.
+   */
+  private final List<Vertex> pendingVertices = new ArrayList<>();
+  private final List<Vertex> pendingBelow = new ArrayList<>();
+
+  private CompiledInput input;
+  private int lastId;
+
+  /**
+   * Constructor of the class.
+   *
+   * @param automaton to evaluate.
+   * @throws NullPointerException if
+   *          automaton is {@code null}.
+   */
+  public GraphStructuredStackEvaluator(CompiledAutomaton automaton) {
+    if (automaton == null)
+      throw new NullPointerException("automaton can not be null.");
+
+    this.automaton = automaton;
+    this.table = automaton.getTransitionFunction();
+  }
+
+  @Override
+  public boolean evaluate(Tape tape) {
+    return evaluate(new CompiledInput(automaton, tape));
+  }
+
+  @Override
+  public boolean evaluate(CompiledInput input) {
+    if (input == null)
+      throw new NullPointerException("input can not be null.");
+
+    this.input = input;
+    lastId = 0;
+    position = 0;
+    current.clear();
+    next.clear();
+    try {
+      Vertex initial = top(automaton.getInitialState(),
+                           automaton.getInitialStackSymbol(), 0);
+      addBelow(initial, BOTTOM);
+      addConfiguration(automaton.getInitialState(), initial, 0);
+
+      while (true) {
+        for (int i = 0; i < current.size; i++) {
+          if (expand(current.states[i], current.vertices[i]))
+            return true;
+        }
+        if (position == input.length() || next.size == 0)
+          return false;
+
+        Level level = current;
+        current = next;
+        next = level;
+        next.clear();
+        position += 1;
+      }
+    } finally {
+      this.input = null;
+      current.clear();
+      next.clear();
+    }
+  }
+
+  /**
+   * Applies every transition to the
+   * configuration of the current position.
+   *
+   * @param state of the configuration.
+   * @param vertex top of the stack.
+   * @return {@code true} if the
+   *          configuration accepts the input.
+   */
+  private boolean expand(int state, Vertex vertex) {
+    if (input.hasReachedTheEnd(position)
+            && (automaton.isAccepting(state) || vertex == BOTTOM))
+      return true;
+    if (vertex == BOTTOM)
+      return false;
+
+    int row = table.row(state, input.symbolAt(position), vertex.symbol);
+    for (int i = table.rowBegin(row); i < table.rowEnd(row); i++) {
+      int transition = table.transitionAt(i);
+      int nextState = table.nextState(transition);
+      int level = table.consumesInput(transition) ? position + 1 : position;
+      int pushBegin = table.pushBegin(transition);
+      int pushEnd = table.pushEnd(transition);
+
+      if (pushBegin == pushEnd) {
+        if (vertex.level == position)
+          addListener(vertex, new Listener(nextState, level, null));
+        for (int j = 0; j < vertex.below.size(); j++) {
+          addConfiguration(nextState, vertex.below.get(j), level);
+        }
+      } else {
+        Vertex top = top(nextState, table.pushedSymbol(pushEnd - 1), level);
+        Vertex cell = top;
+        for (int j = pushEnd - 2; j >= pushBegin; j--) {
+          Vertex below = cell(transition, j - pushBegin, table.pushedSymbol(j), level);
+          addBelow(cell, below);
+          cell = below;
+        }
+        if (cell != vertex) {
+          if (vertex.level == position)
+            addListener(vertex, new Listener(-1, level, cell));
+          for (int j = 0; j < vertex.below.size(); j++) {
+            addBelow(cell, vertex.below.get(j));
+          }
+        }
+        addConfiguration(nextState, top, level);
+      }
+      runListeners();
+    }
+    return false;
+  }
+
+  /**
+   * Adds a configuration if it
+   * does not exist yet.
+   *
+   * @param state of the configuration.
+   * @param vertex top of the stack.
+   * @param level position of the head.
+   */
+  private void addConfiguration(int state, Vertex vertex, int level) {
+    Level l = level == position ? current : next;
+    long key = ((long) state << 32) | vertex.id;
+    if (!l.configurations.add(key))
+      return;
+
+    if (l.size == l.states.length) {
+      l.states = Arrays.copyOf(l.states, l.size * 2);
+      l.vertices = Arrays.copyOf(l.vertices, l.size * 2);
+    }
+    l.states[l.size] = state;
+    l.vertices[l.size] = vertex;
+    l.size += 1;
+  }
+
+  /**
+   * Adds an edge to the graph if it does
+   * not exist yet, leaving its listeners
+   * pending.
+   *
+   * @param vertex upper vertex.
+   * @param below vertex below it.
+   */
+  private void addBelow(Vertex vertex, Vertex below) {
+    Level l = vertex.level == position ? current : next;
+    long key = ((long) vertex.id << 32) | below.id;
+    if (!l.edges.add(key))
+      return;
+
+    vertex.below.add(below);
+    if (vertex.listeners != null) {
+      pendingVertices.add(vertex);
+      pendingBelow.add(below);
+    }
+  }
+
+  private void addListener(Vertex vertex, Listener listener) {
+    if (vertex.listeners == null)
+      vertex.listeners = new ArrayList<>(2);
+    vertex.listeners.add(listener);
+  }
+
+  /**
+   * Repeats the work of the listeners
+   * with the vertices added below.
+   */
+  private void runListeners() {
+    while (!pendingVertices.isEmpty()) {
+      int last = pendingVertices.size() - 1;
+      Vertex vertex = pendingVertices.remove(last);
+      Vertex below = pendingBelow.remove(last);
+      List<Listener> listeners = vertex.listeners;
+      for (int i = 0; i < listeners.size(); i++) {
+        Listener listener = listeners.get(i);
+        if (listener.cell == null)
+          addConfiguration(listener.state, below, listener.level);
+        else
+          addBelow(listener.cell, below);
+      }
+    }
+  }
+
+  /**
+   * Returns the vertex on the top of
+   * the stack of a configuration.
+   *
+   * @param state of the configuration.
+   * @param symbol on the top.
+   * @param level position of the head.
+   * @return the vertex.
+   */
+  private Vertex top(int state, int symbol, int level) {
+    Level l = level == position ? current : next;
+    long key = (long) state * automaton.numberOfStackSymbols() + symbol;
+    Vertex vertex = l.tops.get(key);
+    if (vertex == null) {
+      vertex = new Vertex(++lastId, symbol, level);
+      l.tops.put(key, vertex);
+    }
+    return vertex;
+  }
+
+  /**
+   * Returns the vertex of a symbol
+   * pushed below the top.
+   *
+   * @param transition that pushes the symbol.
+   * @param index of the symbol on the push.
+   * @param symbol pushed.
+   * @param level position of the head.
+   * @return the vertex.
+   */
+  private Vertex cell(int transition, int index, int symbol, int level) {
+    Level l = level == position ? current : next;
+    long key = ((long) transition << 32) | index;
+    Vertex vertex = l.cells.get(key);
+    if (vertex == null) {
+      vertex = new Vertex(++lastId, symbol, level);
+      l.cells.put(key, vertex);
+    }
+    return vertex;
+  }
+}
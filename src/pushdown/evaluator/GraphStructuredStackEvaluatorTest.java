@@ -0,0 +1,96 @@
+package pushdown.evaluator;
+
+import static org.junit.Assert.*;
+import static pushdown.evaluator.LanguageAssert.AUTOMATA;
+import static pushdown.evaluator.LanguageAssert.assertSameLanguage;
+
+import org.junit.Test;
+import pushdown.PushdownAutomaton;
+import pushdown.reader.PDAReader;
+import symbol.Symbol;
+import tape.Tape;
+
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h2>GraphStructuredStackEvaluatorTest</h2>
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class GraphStructuredStackEvaluatorTest {
+
+  @Test
+  public void sameLanguageTest() throws FileNotFoundException {
+    assertSameLanguage(AUTOMATA, 8,
+            pda -> new GraphStructuredStackEvaluator(pda.compile())::evaluate);
+  }
+
+  @Test
+  public void ambiguousAutomatonTest() {
+    PDAReader reader = new PDAReader(
+            "q p r f\n" +
+            "a b\n" +
+            "S\n" +
+            "q\n" +
+            "S\n" +
+            "f\n" +
+            "q a S p S\n" +
+            "q a S r S\n" +
+            "p . S q S\n" +
+            "r . S q S\n" +
+            "q b S f S\n");
+    Evaluator evaluator =
+            EvaluationStrategy.GRAPH_STRUCTURED_STACK.newEvaluator(reader.getReadPDA().compile());
+
+    List<Symbol> symbols = new ArrayList<>();
+    for (int i = 0; i < 100000; i++) {
+      symbols.add(new Symbol("a"));
+    }
+    assertFalse(evaluator.evaluate(new Tape(symbols)));
+    symbols.add(new Symbol("b"));
+    assertTrue(evaluator.evaluate(new Tape(symbols)));
+  }
+
+  @Test
+  public void emptyCycleTest() {
+    // the empty transition of q can push as many A as needed.
+    PDAReader reader = new PDAReader(
+            "q r f\n" +
+            "a\n" +
+            "S A\n" +
+            "q\n" +
+            "S\n" +
+            "f\n" +
+            "q . S q A S\n" +
+            "q . A q A A\n" +
+            "q a A r .\n" +
+            "r a A r .\n" +
+            "r . S r .\n");
+    Evaluator evaluator = new GraphStructuredStackEvaluator(reader.getReadPDA().compile());
+    List<Symbol> symbols = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      symbols.add(new Symbol("a"));
+      assertTrue(evaluator.evaluate(new Tape(symbols)));
+    }
+    assertFalse(evaluator.evaluate(new Tape()));
+  }
+
+  @Test
+  public void palindromeTest() throws FileNotFoundException {
+    PushdownAutomaton pda = new PDAReader(new FileReader("test/APf-2.txt")).getReadPDA();
+    List<Symbol> symbols = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      symbols.add(new Symbol(i % 3 == 0 ? "1" : "0"));
+    }
+    for (int i = symbols.size() - 1; i >= 0; i--) {
+      symbols.add(symbols.get(i));
+    }
+    assertTrue(pda.evaluate(new Tape(symbols), EvaluationStrategy.GRAPH_STRUCTURED_STACK));
+    symbols.remove(symbols.size() / 2);
+    assertFalse(pda.evaluate(new Tape(symbols), EvaluationStrategy.GRAPH_STRUCTURED_STACK));
+  }
+}
@@ -0,0 +1,97 @@
+package pushdown.evaluator;
+
+import static org.junit.Assert.assertEquals;
+
+import pushdown.PushdownAutomaton;
+import pushdown.reader.PDAReader;
+import symbol.Symbol;
+import tape.Tape;
+
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * <h2>LanguageAssert</h2>
+ *
+ * Assertions shared by the tests of
+ * the evaluators, which check that an
+ * evaluator accepts the same words as
+ * a {@link DepthFirstEvaluator}.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public final class LanguageAssert {
+
+  /**
+   * Automata of the test directory.
+   */
+  public static final String[] AUTOMATA = {"test/AP1.txt", "test/AP2.txt",
+          "test/AP3.txt", "test/AP4.txt", "test/AP5.txt", "test/AP6.txt",
+          "test/APf.txt", "test/APf-2.txt"};
+
+  private LanguageAssert() {
+  }
+
+  /**
+   * Asserts that an evaluator accepts the
+   * same words as a depth first evaluator,
+   * for every automaton of the files and
+   * every word of its input alphabet up
+   * to a length.
+   *
+   * @param files of the automata.
+   * @param maxLength of the words.
+   * @param evaluator that creates the
+   *                  evaluation of an automaton.
+   * @throws FileNotFoundException if a
+   *          file does not exist.
+   */
+  public static void assertSameLanguage(String[] files, int maxLength,
+                                        Function<PushdownAutomaton, Predicate<Tape>> evaluator)
+          throws FileNotFoundException {
+    for (String file : files) {
+      PushdownAutomaton pda = new PDAReader(new FileReader(file)).getReadPDA();
+      Evaluator depthFirst = new DepthFirstEvaluator(pda.compile());
+      Predicate<Tape> evaluation = evaluator.apply(pda);
+
+      List<Symbol> alphabet = new ArrayList<>(pda.getInputAlphabet());
+      for (int length = 0; length <= maxLength; length++) {
+        for (List<Symbol> word : words(alphabet, length)) {
+          Tape tape = new Tape(word);
+          assertEquals(file + " " + tape,
+                  depthFirst.evaluate(tape), evaluation.test(tape));
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns every word of
+   * the alphabet of a length.
+   *
+   * @param alphabet of the words.
+   * @param length of the words.
+   * @return the words.
+   */
+  public static List<List<Symbol>> words(List<Symbol> alphabet, int length) {
+    List<List<Symbol>> words = new ArrayList<>();
+    words.add(new ArrayList<>());
+    for (int i = 0; i < length; i++) {
+      List<List<Symbol>> longer = new ArrayList<>();
+      for (List<Symbol> word : words) {
+        for (Symbol symbol : alphabet) {
+          List<Symbol> copy = new ArrayList<>(word);
+          copy.add(symbol);
+          longer.add(copy);
+        }
+      }
+      words = longer;
+    }
+    return words;
+  }
+}
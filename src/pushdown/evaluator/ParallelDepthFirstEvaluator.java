@@ -0,0 +1,320 @@
+package pushdown.evaluator;
+
+import pushdown.analysis.EmptyClosure;
+import pushdown.analysis.EmptyCycles;
+import pushdown.compiled.CompiledAutomaton;
+import pushdown.compiled.CompiledInput;
+import pushdown.compiled.CompiledTransitionFunction;
+import pushdown.stack.PersistentStack;
+import tape.Tape;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <h2>ParallelDepthFirstEvaluator</h2>
+ *
+ * Evaluator that explores the
+ * computations of a pushdown
+ * automaton in depth first order
+ * on a fork join pool.
+ *
+ * Each task explores its branches
+ * like a {@link DepthFirstEvaluator},
+ * keeping the alternative transitions
+ * of every choice point, and applying
+ * chains of empty transitions in one
+ * step with the {@link EmptyClosure}
+ * of the automaton. While the
+ * pool has idle workers, the oldest
+ * alternative of a task, which is the
+ * one closest to the root of the search
+ * and so the widest, is forked as a new
+ * task that other workers can steal.
+ * Stacks are persistent, so a branch
+ * is handed over without copying its
+ * stack.
+ *
+ * When a task finds an accepting
+ * configuration every other task of
+ * the evaluation stops.
+ *
+ * Each branch keeps the configurations
+ * it has reached by empty transitions
+ * since it last read the input, and it is
+ * cut when it re-enters one of their
+ * cycles, as on the {@link CycleGuard}
+ * of a depth first search. If the input
+ * is rejected after a cut, it is decided
+ * by a {@link SaturationEvaluator}.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class ParallelDepthFirstEvaluator implements Evaluator {
+
+  /**
+   * Number of queued tasks over the
+   * number of idle workers below which
+   * a task forks new ones.
+   */
+  private static final int SURPLUS_THRESHOLD = 2;
+
+  /**
+   * Initial number of pending
+   * branches of a task.
+   */
+  private static final int INITIAL_BRANCHES = 16;
+
+  /**
+   * Configuration reached by an empty
+   * transition, linked to the ones
+   * reached before it at the same
+   * head position.
+   */
+  private static final class EmptyPath {
+    final int state;
+    final PersistentStack stack;
+    final EmptyPath previous;
+
+    EmptyPath(int state, PersistentStack stack, EmptyPath previous) {
+      this.state = state;
+      this.stack = stack;
+      this.previous = previous;
+    }
+  }
+
+  private final CompiledAutomaton automaton;
+  private final CompiledTransitionFunction table;
+  private final EmptyClosure emptyClosure;
+  private final EmptyCycles emptyCycles;
+  private final ForkJoinPool pool;
+
+  /**
+   * Constructor of the class.
+   *
+   * It uses the common fork join pool.
+   *
+   * @param automaton to evaluate.
+   * @throws NullPointerException if
+   *          automaton is {@code null}.
+   */
+  public ParallelDepthFirstEvaluator(CompiledAutomaton automaton) {
+    this(automaton, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructor of the class.
+   *
+   * @param automaton to evaluate.
+   * @param pool where branches are explored.
+   * @throws NullPointerException if any
+   *          parameter is {@code null}.
+   */
+  public ParallelDepthFirstEvaluator(CompiledAutomaton automaton, ForkJoinPool pool) {
+    if (automaton == null)
+      throw new NullPointerException("automaton can not be null.");
+    if (pool == null)
+      throw new NullPointerException("pool can not be null.");
+
+    this.automaton = automaton;
+    this.emptyClosure = automaton.getEmptyClosure();
+    this.table = emptyClosure.getTransitionFunction();
+    this.emptyCycles = automaton.getEmptyCycles();
+    this.pool = pool;
+  }
+
+  @Override
+  public boolean evaluate(Tape tape) {
+    return evaluate(new CompiledInput(automaton, tape));
+  }
+
+  @Override
+  public boolean evaluate(CompiledInput input) {
+    if (input == null)
+      throw new NullPointerException("input can not be null.");
+
+    AtomicBoolean accepted = new AtomicBoolean();
+    AtomicBoolean cut = new AtomicBoolean();
+    BranchTask root = new BranchTask(input, accepted, cut, automaton.getInitialState(), 0,
+            PersistentStack.EMPTY.push(automaton.getInitialStackSymbol()),
+            CompiledAutomaton.UNKNOWN_ID, null);
+    pool.invoke(root);
+    if (!accepted.get() && cut.get())
+      return new SaturationEvaluator(automaton).evaluate(input);
+    return accepted.get();
+  }
+
+  /**
+   * Tests if a configuration re-enters the
+   * cycle of a configuration of its path,
+   * that is, if it has the same state and
+   * top and the same symbols below it at
+   * the bottom of its stack.
+   *
+   * @param path of the configuration.
+   * @param state of the configuration.
+   * @param stack of the configuration.
+   * @return {@code true} if it re-enters one.
+   */
+  private static boolean reenters(EmptyPath path, int state, PersistentStack stack) {
+    for (EmptyPath entry = path; entry != null; entry = entry.previous) {
+      if (entry.state != state || entry.stack.peek() != stack.peek()
+              || entry.stack.size() > stack.size())
+        continue;
+      PersistentStack below = stack;
+      while (below.size() >= entry.stack.size()) {
+        below = below.pop();
+      }
+      if (below.equals(entry.stack.pop()))
+        return true;
+    }
+    return false;
+  }
+
+  /**
+   * Task that explores the computations
+   * that start with a transition applied
+   * on a configuration.
+   *
+   * Pending branches are stored on parallel
+   * arrays used as a double ended queue:
+   * the task takes them from the top and
+   * forks them from the bottom.
+   */
+  private class BranchTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final CompiledInput input;
+    private final AtomicBoolean accepted;
+    private final AtomicBoolean cut;
+
+    private int[] branchStates = new int[INITIAL_BRANCHES];
+    private int[] branchHeads = new int[INITIAL_BRANCHES];
+    private PersistentStack[] branchStacks = new PersistentStack[INITIAL_BRANCHES];
+    private int[] branchTransitions = new int[INITIAL_BRANCHES];
+    private EmptyPath[] branchPaths = new EmptyPath[INITIAL_BRANCHES];
+    private int bottom;
+    private int top;
+
+    private final List<BranchTask> forked = new ArrayList<>();
+
+    /**
+     * Creates the task of a branch.
+     *
+     * @param transition to apply, or unknown
+     *                   identifier to start on
+     *                   the configuration.
+     * @param path of the configuration.
+     */
+    BranchTask(CompiledInput input, AtomicBoolean accepted, AtomicBoolean cut,
+               int state, int head, PersistentStack stack, int transition, EmptyPath path) {
+      this.input = input;
+      this.accepted = accepted;
+      this.cut = cut;
+      addBranch(state, head, stack, transition, path);
+    }
+
+    @Override
+    protected void compute() {
+      while (bottom < top && !accepted.get()) {
+        if (top - bottom > 1 && getSurplusQueuedTaskCount() < SURPLUS_THRESHOLD)
+          forkOldestBranch();
+
+        top -= 1;
+        int state = branchStates[top];
+        int head = branchHeads[top];
+        PersistentStack stack = branchStacks[top];
+        int transition = branchTransitions[top];
+        EmptyPath path = branchPaths[top];
+        branchStacks[top] = null;
+        branchPaths[top] = null;
+
+        while (!accepted.get()) {
+          if (transition != CompiledAutomaton.UNKNOWN_ID) {
+            state = table.nextState(transition);
+            if (table.consumesInput(transition)) {
+              head += 1;
+              path = null;
+            }
+            stack = stack.pop();
+            for (int i = table.pushBegin(transition); i < table.pushEnd(transition); i++) {
+              stack = stack.push(table.pushedSymbol(i));
+            }
+          }
+
+          if (input.hasReachedTheEnd(head)
+                  && (automaton.isAccepting(state) || stack.isEmpty()
+                  || emptyClosure.acceptsWithoutInput(state, stack.peek()))) {
+            accepted.set(true);
+            break;
+          }
+          if (stack.isEmpty())
+            break;
+          if (transition != CompiledAutomaton.UNKNOWN_ID && !table.consumesInput(transition)
+                  && emptyCycles.isRepeating(state, stack.peek())) {
+            if (reenters(path, state, stack)) {
+              cut.set(true);
+              break;
+            }
+            path = new EmptyPath(state, stack, path);
+          }
+
+          int row = table.row(state, input.symbolAt(head), stack.peek());
+          int begin = table.rowBegin(row);
+          int end = table.rowEnd(row);
+          if (begin == end)
+            break;
+          // alternatives are taken in the order of the row.
+          for (int i = end - 1; i > begin; i--) {
+            addBranch(state, head, stack, table.transitionAt(i), path);
+          }
+          transition = table.transitionAt(begin);
+        }
+        if (bottom == top) {
+          bottom = 0;
+          top = 0;
+        }
+      }
+      for (BranchTask task : forked) {
+        task.join();
+      }
+    }
+
+    private void forkOldestBranch() {
+      BranchTask task = new BranchTask(input, accepted, cut, branchStates[bottom],
+              branchHeads[bottom], branchStacks[bottom], branchTransitions[bottom],
+              branchPaths[bottom]);
+      branchStacks[bottom] = null;
+      branchPaths[bottom] = null;
+      bottom += 1;
+      forked.add(task);
+      task.fork();
+    }
+
+    private void addBranch(int state, int head, PersistentStack stack, int transition,
+                           EmptyPath path) {
+      if (top == branchStates.length) {
+        int size = top - bottom;
+        int capacity = Math.max(INITIAL_BRANCHES, size * 2);
+        branchStates = Arrays.copyOfRange(branchStates, bottom, bottom + capacity);
+        branchHeads = Arrays.copyOfRange(branchHeads, bottom, bottom + capacity);
+        branchStacks = Arrays.copyOfRange(branchStacks, bottom, bottom + capacity);
+        branchTransitions = Arrays.copyOfRange(branchTransitions, bottom, bottom + capacity);
+        branchPaths = Arrays.copyOfRange(branchPaths, bottom, bottom + capacity);
+        bottom = 0;
+        top = size;
+      }
+      branchStates[top] = state;
+      branchHeads[top] = head;
+      branchStacks[top] = stack;
+      branchTransitions[top] = transition;
+      branchPaths[top] = path;
+      top += 1;
+    }
+  }
+}
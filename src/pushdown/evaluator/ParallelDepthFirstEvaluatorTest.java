@@ -0,0 +1,89 @@
+package pushdown.evaluator;
+
+import static org.junit.Assert.*;
+import static pushdown.evaluator.LanguageAssert.AUTOMATA;
+import static pushdown.evaluator.LanguageAssert.assertSameLanguage;
+
+import org.junit.Test;
+import pushdown.PushdownAutomaton;
+import pushdown.reader.PDAReader;
+import symbol.Symbol;
+import tape.Tape;
+import tape.reader.TapeReader;
+
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>ParallelDepthFirstEvaluatorTest</h2>
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class ParallelDepthFirstEvaluatorTest {
+
+  @Test
+  public void sameLanguageTest() throws FileNotFoundException {
+    assertSameLanguage(AUTOMATA, 8,
+            pda -> EvaluationStrategy.PARALLEL_DEPTH_FIRST.newEvaluator(pda.compile())::evaluate);
+  }
+
+  @Test
+  public void ambiguousAutomatonTest() throws InterruptedException {
+    // every a doubles the computations.
+    PDAReader reader = new PDAReader(
+            "q p r f\n" +
+            "a b\n" +
+            "S\n" +
+            "q\n" +
+            "S\n" +
+            "f\n" +
+            "q a S p S\n" +
+            "q a S r S\n" +
+            "p . S q S\n" +
+            "r . S q S\n" +
+            "q b S f S\n");
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      Evaluator evaluator = new ParallelDepthFirstEvaluator(reader.getReadPDA().compile(), pool);
+      List<Symbol> symbols = new ArrayList<>();
+      for (int i = 0; i < 18; i++) {
+        symbols.add(new Symbol("a"));
+      }
+      assertFalse(evaluator.evaluate(new Tape(symbols)));
+      symbols.add(new Symbol("b"));
+      assertTrue(evaluator.evaluate(new Tape(symbols)));
+      assertTrue(pool.awaitQuiescence(10, TimeUnit.SECONDS));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void emptyCycleTest() {
+    PDAReader reader = new PDAReader(
+            "q p f\n" +
+            "a b\n" +
+            "S\n" +
+            "q\n" +
+            "S\n" +
+            "f\n" +
+            "q . S q S S\n" +
+            "q . S p S\n" +
+            "p . S q S\n" +
+            "p a S f S\n");
+    Evaluator evaluator = new ParallelDepthFirstEvaluator(reader.getReadPDA().compile());
+    assertTrue(evaluator.evaluate(new TapeReader("a").getReadTapes().get(0)));
+    assertFalse(evaluator.evaluate(new TapeReader("b").getReadTapes().get(0)));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void nullPoolTest() throws FileNotFoundException {
+    PushdownAutomaton pda = new PDAReader(new FileReader("test/AP1.txt")).getReadPDA();
+    new ParallelDepthFirstEvaluator(pda.compile(), null);
+  }
+}
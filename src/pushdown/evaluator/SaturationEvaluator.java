@@ -0,0 +1,294 @@
+package pushdown.evaluator;
+
+import pushdown.analysis.PopSummary;
+import pushdown.compiled.CompiledAutomaton;
+import pushdown.compiled.CompiledInput;
+import pushdown.compiled.CompiledTransitionFunction;
+import tape.Tape;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <h2>SaturationEvaluator</h2>
+ *
+ * Evaluator based on the saturation
+ * algorithm of pushdown systems.
+ *
+ * The automaton and the input form a
+ * pushdown system whose control states
+ * are pairs (state, head position). The
+ * accepting configurations are described
+ * by a finite automaton over the stack,
+ * the P-automaton, that is saturated with
+ * new transitions until it accepts every
+ * configuration that can reach them, its
+ * pre*. The input is accepted if the
+ * initial configuration is accepted.
+ *
+ * The saturation adds at most one
+ * transition per pair of P-automaton
+ * states and stack symbol, so it ends in
+ * polynomial time even when empty
+ * transitions make the stack grow without
+ * bound. The summary of the empty
+ * transitions, which does not depend on
+ * the input, is cached on the automaton
+ * and seeds every head position.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class SaturationEvaluator implements Evaluator {
+
+  /**
+   * Growable list of integers.
+   */
+  private static final class IntList {
+    int[] values = new int[4];
+    int size;
+
+    void add(int value) {
+      if (size == values.length)
+        values = Arrays.copyOf(values, size * 2);
+      values[size++] = value;
+    }
+  }
+
+  /**
+   * Growable list of longs.
+   */
+  private static final class LongList {
+    long[] values = new long[4];
+    int size;
+
+    void add(long value) {
+      if (size == values.length)
+        values = Arrays.copyOf(values, size * 2);
+      values[size++] = value;
+    }
+  }
+
+  private final CompiledAutomaton automaton;
+  private final CompiledTransitionFunction table;
+  private final PopSummary emptySummary;
+
+  /**
+   * Maximum number of pushed symbols
+   * of a transition.
+   */
+  private final int maximumPush;
+
+  /**
+   * Constructor of the class.
+   *
+   * @param automaton to evaluate.
+   * @throws NullPointerException if
+   *          automaton is {@code null}.
+   */
+  public SaturationEvaluator(CompiledAutomaton automaton) {
+    if (automaton == null)
+      throw new NullPointerException("automaton can not be null.");
+
+    this.automaton = automaton;
+    this.table = automaton.getTransitionFunction();
+    this.emptySummary = automaton.getEmptyTransitionSummary();
+    int maximum = 0;
+    for (int t = 0; t < table.numberOfTransitions(); t++) {
+      maximum = Math.max(maximum, table.pushEnd(t) - table.pushBegin(t));
+    }
+    maximumPush = maximum;
+  }
+
+  @Override
+  public boolean evaluate(Tape tape) {
+    return evaluate(new CompiledInput(automaton, tape));
+  }
+
+  @Override
+  public boolean evaluate(CompiledInput input) {
+    if (input == null)
+      throw new NullPointerException("input can not be null.");
+
+    return new Saturation(input).run();
+  }
+
+  /**
+   * Saturation of the P-automaton
+   * of an input.
+   *
+   * P-automaton states are the control
+   * states, numbered head * |Q| + state,
+   * and a last state that accepts any
+   * stack. A transition is encoded as
+   * (from * |Γ| + symbol) * states + to.
+   */
+  private class Saturation {
+    private final CompiledInput input;
+    private final int n;
+    private final int states;
+    private final int stackSymbols;
+    private final int pStates;
+    private final int anyStack;
+    private final long initial;
+
+    /**
+     * Transitions added, and the ones
+     * whose consequences are pending.
+     */
+    private final Set<Long> transitions = new HashSet<>();
+    private final LongList pending = new LongList();
+
+    /**
+     * Targets of the transitions by
+     * (from * |Γ| + symbol).
+     */
+    private final Map<Long, IntList> targets = new HashMap<>();
+
+    /**
+     * Transitions of the pushdown system
+     * partially read on the P-automaton,
+     * waiting on (state * |Γ| + symbol).
+     */
+    private final Map<Long, LongList> waiting = new HashMap<>();
+    private final Set<Long> items = new HashSet<>();
+
+    private boolean accepted;
+
+    Saturation(CompiledInput input) {
+      this.input = input;
+      this.n = input.length();
+      this.states = automaton.numberOfStates();
+      this.stackSymbols = automaton.numberOfStackSymbols();
+      this.pStates = states * (n + 1) + 1;
+      this.anyStack = pStates - 1;
+      this.initial = (long) automaton.getInitialState() * stackSymbols
+              + automaton.getInitialStackSymbol();
+    }
+
+    boolean run() {
+      // accepting configurations.
+      for (int x = 0; x < stackSymbols; x++) {
+        addTransition(anyStack, x, anyStack);
+        for (int q = 0; q < states; q++) {
+          if (automaton.isAccepting(q))
+            addTransition(control(q, n), x, anyStack);
+        }
+      }
+      // moves that do not read the input.
+      for (int head = 0; head <= n; head++) {
+        for (int q = 0; q < states; q++) {
+          for (int x = 0; x < stackSymbols; x++) {
+            for (int p = 0; p < states; p++) {
+              if (emptySummary.pops(q, x, p))
+                addTransition(control(q, head), x, control(p, head));
+            }
+            if (head == n && emptySummary.acceptsInside(q, x))
+              addTransition(control(q, head), x, anyStack);
+          }
+        }
+      }
+      // rules of the pushdown system.
+      for (int head = 0; head <= n && !accepted; head++) {
+        int symbol = input.symbolAt(head);
+        for (int t = 0; t < table.numberOfTransitions(); t++) {
+          int a = table.inputSymbol(t);
+          if (a == CompiledAutomaton.EMPTY_SYMBOL_ID || (head < n && a == symbol))
+            addRule(t, head);
+        }
+      }
+
+      while (pending.size > 0 && !accepted) {
+        long transition = pending.values[--pending.size];
+        int to = (int) (transition % pStates);
+        long key = transition / pStates;
+        IntList list = targets.get(key);
+        if (list == null) {
+          list = new IntList();
+          targets.put(key, list);
+        }
+        list.add(to);
+
+        LongList waitingItems = waiting.get(key);
+        for (int i = 0; waitingItems != null && i < waitingItems.size; i++) {
+          advance(waitingItems.values[i], to);
+        }
+      }
+      return accepted;
+    }
+
+    private int control(int state, int head) {
+      return head * states + state;
+    }
+
+    private boolean isAccepting(int pState) {
+      return pState == anyStack || pState >= states * n;
+    }
+
+    private void addTransition(int from, int symbol, int to) {
+      long key = (long) from * stackSymbols + symbol;
+      if (!transitions.add(key * pStates + to))
+        return;
+      if (key == initial && isAccepting(to))
+        accepted = true;
+      pending.add(key * pStates + to);
+    }
+
+    /**
+     * Adds the rule of a transition read
+     * at a head position.
+     */
+    private void addRule(int t, int head) {
+      int from = control(table.currentState(t), head);
+      int next = table.consumesInput(t) ? head + 1 : head;
+      int to = control(table.nextState(t), next);
+      if (table.pushBegin(t) == table.pushEnd(t))
+        addTransition(from, table.stackSymbol(t), to);
+      else
+        await(item(t, head, 0), to);
+    }
+
+    /**
+     * Item of a rule whose first m
+     * pushed symbols have been read.
+     */
+    private long item(int t, int head, int m) {
+      return ((long) t * (n + 1) + head) * (maximumPush + 1) + m;
+    }
+
+    private void await(long item, int pState) {
+      if (!items.add(item * pStates + pState))
+        return;
+      int m = (int) (item % (maximumPush + 1));
+      int t = (int) (item / (maximumPush + 1) / (n + 1));
+      int y = table.pushedSymbol(table.pushEnd(t) - 1 - m);
+
+      long key = (long) pState * stackSymbols + y;
+      LongList list = waiting.get(key);
+      if (list == null) {
+        list = new LongList();
+        waiting.put(key, list);
+      }
+      list.add(item);
+
+      IntList next = targets.get(key);
+      for (int i = 0; next != null && i < next.size; i++) {
+        advance(item, next.values[i]);
+      }
+    }
+
+    private void advance(long item, int pState) {
+      int m = (int) (item % (maximumPush + 1)) + 1;
+      long rule = item / (maximumPush + 1);
+      int head = (int) (rule % (n + 1));
+      int t = (int) (rule / (n + 1));
+      if (m == table.pushEnd(t) - table.pushBegin(t))
+        addTransition(control(table.currentState(t), head), table.stackSymbol(t), pState);
+      else
+        await(item + 1, pState);
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package pushdown.evaluator;
+
+import static org.junit.Assert.*;
+import static pushdown.evaluator.LanguageAssert.AUTOMATA;
+import static pushdown.evaluator.LanguageAssert.assertSameLanguage;
+
+import org.junit.Test;
+import pushdown.compiled.CompiledAutomaton;
+import pushdown.reader.PDAReader;
+import symbol.Symbol;
+import tape.Tape;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h2>SaturationEvaluatorTest</h2>
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class SaturationEvaluatorTest {
+
+  @Test
+  public void sameLanguageTest() throws FileNotFoundException {
+    assertSameLanguage(AUTOMATA, 7,
+            pda -> new SaturationEvaluator(pda.compile())::evaluate);
+  }
+
+  @Test
+  public void growingStackTest() {
+    // the empty transitions of q can push as many A as wanted,
+    // so a depth first search never ends on rejected words.
+    PDAReader reader = new PDAReader(
+            "q r f\n" +
+            "a b\n" +
+            "S A\n" +
+            "q\n" +
+            "S\n" +
+            "f\n" +
+            "q . S q A S\n" +
+            "q . A q A A\n" +
+            "q a A r .\n" +
+            "r a A r .\n" +
+            "r . S f S\n");
+    CompiledAutomaton compiled = reader.getReadPDA().compile();
+    Evaluator evaluator = EvaluationStrategy.SATURATION.newEvaluator(compiled);
+    assertSame(compiled.getEmptyTransitionSummary(), compiled.getEmptyTransitionSummary());
+
+    List<Symbol> symbols = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      symbols.add(new Symbol("a"));
+      assertTrue(evaluator.evaluate(new Tape(symbols)));
+    }
+    assertFalse(evaluator.evaluate(new Tape()));
+    symbols.add(new Symbol("b"));
+    assertFalse(evaluator.evaluate(new Tape(symbols)));
+  }
+}
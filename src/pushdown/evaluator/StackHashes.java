@@ -0,0 +1,73 @@
+package pushdown.evaluator;
+
+import java.util.Arrays;
+
+/**
+ * <h2>StackHashes</h2>
+ *
+ * Two rolling hashes of each prefix of
+ * the stack of an evaluator, updated as
+ * symbols are pushed. Position i has the
+ * hashes of the i bottom symbols, so the
+ * ones of a prefix do not change when the
+ * symbols above it are popped.
+ *
+ * Two stacks are taken as equal when
+ * both of their hashes are equal.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+final class StackHashes {
+
+  private static final int INITIAL_SIZE = 16;
+
+  /**
+   * Multipliers of the two
+   * rolling hashes.
+   */
+  private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+  private static final long CHECK_MULTIPLIER = 0xBF58476D1CE4E5B9L;
+
+  private long[] hashes = new long[INITIAL_SIZE];
+  private long[] checks = new long[INITIAL_SIZE];
+
+  /**
+   * Updates the hashes after
+   * a symbol is pushed.
+   *
+   * @param size of the stack with the symbol.
+   * @param symbol identifier.
+   */
+  void push(int size, int symbol) {
+    if (size >= hashes.length) {
+      hashes = Arrays.copyOf(hashes, size * 2);
+      checks = Arrays.copyOf(checks, size * 2);
+    }
+    long value = symbol + 1;
+    hashes[size] = hashes[size - 1] * HASH_MULTIPLIER + value * CHECK_MULTIPLIER;
+    checks[size] = checks[size - 1] * CHECK_MULTIPLIER + value * HASH_MULTIPLIER;
+  }
+
+  /**
+   * Returns the first hash of
+   * a prefix of the stack.
+   *
+   * @param size of the prefix.
+   * @return the hash.
+   */
+  long hash(int size) {
+    return hashes[size];
+  }
+
+  /**
+   * Returns the second hash of
+   * a prefix of the stack.
+   *
+   * @param size of the prefix.
+   * @return the hash.
+   */
+  long check(int size) {
+    return checks[size];
+  }
+}
@@ -0,0 +1,237 @@
+package pushdown.grammar;
+
+import pushdown.compiled.CompiledAutomaton;
+import pushdown.compiled.CompiledInput;
+import pushdown.evaluator.Evaluator;
+import tape.Tape;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <h2>CYKRecognizer</h2>
+ *
+ * Evaluator that parses the input with
+ * the Chomsky normal form of the grammar
+ * of the automaton, using the
+ * Cocke-Younger-Kasami algorithm.
+ *
+ * Each cell of the chart is a bit set of
+ * the nonterminals that derive a factor
+ * of the input. Cells of the same length
+ * only depend on shorter ones, so the
+ * chart is filled one length at a time
+ * and the cells of each length are
+ * computed in parallel on a fork join
+ * pool.
+ *
+ * It takes cubic time and quadratic
+ * memory on the length of the input.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class CYKRecognizer implements Evaluator {
+
+  /**
+   * Minimum number of cell splits
+   * computed by a single task.
+   */
+  private static final int SEQUENTIAL_THRESHOLD = 1 << 12;
+
+  private final CompiledAutomaton automaton;
+  private final ChomskyNormalForm normalForm;
+  private final ForkJoinPool pool;
+
+  /**
+   * Number of longs of a cell.
+   */
+  private final int words;
+
+  /**
+   * Nonterminals that derive each
+   * terminal, indexed by terminal.
+   */
+  private final long[][] terminalSets;
+
+  /**
+   * Binary productions grouped by the
+   * first nonterminal of their right
+   * hand side.
+   */
+  private final int[] firstStart;
+  private final int[] second;
+  private final int[] parent;
+
+  /**
+   * Constructor of the class.
+   *
+   * It uses the common fork join pool
+   * and the normal form cached on the
+   * automaton.
+   *
+   * @param automaton to evaluate.
+   * @throws NullPointerException if
+   *          automaton is {@code null}.
+   */
+  public CYKRecognizer(CompiledAutomaton automaton) {
+    this(automaton, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructor of the class.
+   *
+   * @param automaton to evaluate.
+   * @param pool where cells are computed.
+   * @throws NullPointerException if any
+   *          parameter is {@code null}.
+   */
+  public CYKRecognizer(CompiledAutomaton automaton, ForkJoinPool pool) {
+    if (automaton == null)
+      throw new NullPointerException("automaton can not be null.");
+    if (pool == null)
+      throw new NullPointerException("pool can not be null.");
+
+    this.automaton = automaton;
+    this.pool = pool;
+    this.normalForm = automaton.getChomskyNormalForm();
+
+    ContextFreeGrammar grammar = normalForm.getGrammar();
+    int nonterminals = grammar.numberOfNonterminals();
+    words = (nonterminals + 63) >>> 6;
+    terminalSets = new long[grammar.numberOfTerminals()][words];
+
+    firstStart = new int[nonterminals + 1];
+    for (int p = 0; p < grammar.numberOfProductions(); p++) {
+      if (grammar.rhsLength(p) == 2)
+        firstStart[grammar.rhs(p, 0) + 1] += 1;
+    }
+    for (int i = 0; i < nonterminals; i++) {
+      firstStart[i + 1] += firstStart[i];
+    }
+    second = new int[firstStart[nonterminals]];
+    parent = new int[firstStart[nonterminals]];
+    int[] next = firstStart.clone();
+    for (int p = 0; p < grammar.numberOfProductions(); p++) {
+      int lhs = grammar.lhs(p);
+      if (grammar.rhsLength(p) == 2) {
+        int position = next[grammar.rhs(p, 0)]++;
+        second[position] = grammar.rhs(p, 1);
+        parent[position] = lhs;
+      } else {
+        int terminal = ContextFreeGrammar.terminal(grammar.rhs(p, 0));
+        terminalSets[terminal][lhs >>> 6] |= 1L << lhs;
+      }
+    }
+  }
+
+  /**
+   * Returns the normal form used
+   * by the recognizer.
+   *
+   * @return the normal form.
+   */
+  public ChomskyNormalForm getNormalForm() {
+    return normalForm;
+  }
+
+  @Override
+  public boolean evaluate(Tape tape) {
+    return evaluate(new CompiledInput(automaton, tape));
+  }
+
+  @Override
+  public boolean evaluate(CompiledInput input) {
+    if (input == null)
+      throw new NullPointerException("input can not be null.");
+
+    int n = input.length();
+    if (n == 0)
+      return normalForm.derivesEmptyWord();
+
+    // chart[length - 1] holds the cells of the
+    // factors of that length, one after the other.
+    long[][] chart = new long[n][];
+    chart[0] = new long[n * words];
+    for (int i = 0; i < n; i++) {
+      long[] terminals = terminalSets[input.symbolAt(i)];
+      System.arraycopy(terminals, 0, chart[0], i * words, words);
+    }
+
+    for (int length = 2; length <= n; length++) {
+      int cells = n - length + 1;
+      chart[length - 1] = new long[cells * words];
+      LengthTask task = new LengthTask(chart, length, 0, cells);
+      if ((long) cells * (length - 1) <= SEQUENTIAL_THRESHOLD)
+        task.compute();
+      else
+        pool.invoke(task);
+    }
+
+    int start = normalForm.getGrammar().getStart();
+    return (chart[n - 1][start >>> 6] & (1L << start)) != 0;
+  }
+
+  /**
+   * Computes a range of the cells
+   * of the same length.
+   */
+  private class LengthTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final long[][] chart;
+    private final int length;
+    private final int from;
+    private final int to;
+
+    LengthTask(long[][] chart, int length, int from, int to) {
+      this.chart = chart;
+      this.length = length;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if ((long) (to - from) * (length - 1) <= SEQUENTIAL_THRESHOLD || to - from == 1) {
+        for (int i = from; i < to; i++) {
+          computeCell(chart, i, length);
+        }
+      } else {
+        int middle = (from + to) >>> 1;
+        invokeAll(new LengthTask(chart, length, from, middle),
+                  new LengthTask(chart, length, middle, to));
+      }
+    }
+  }
+
+  /**
+   * Computes the nonterminals that derive
+   * the factor of the input that starts
+   * at i with the specified length.
+   */
+  private void computeCell(long[][] chart, int i, int length) {
+    long[] cell = chart[length - 1];
+    int cellOffset = i * words;
+    for (int split = 1; split < length; split++) {
+      long[] left = chart[split - 1];
+      int leftOffset = i * words;
+      long[] right = chart[length - split - 1];
+      int rightOffset = (i + split) * words;
+      for (int w = 0; w < words; w++) {
+        long bits = left[leftOffset + w];
+        while (bits != 0) {
+          int first = (w << 6) + Long.numberOfTrailingZeros(bits);
+          bits &= bits - 1;
+          for (int k = firstStart[first]; k < firstStart[first + 1]; k++) {
+            int c = second[k];
+            if ((right[rightOffset + (c >>> 6)] & (1L << c)) != 0) {
+              int a = parent[k];
+              cell[cellOffset + (a >>> 6)] |= 1L << a;
+            }
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package pushdown.grammar;
+
+import static org.junit.Assert.*;
+import static pushdown.evaluator.LanguageAssert.AUTOMATA;
+import static pushdown.evaluator.LanguageAssert.assertSameLanguage;
+
+import org.junit.Test;
+import pushdown.PushdownAutomaton;
+import pushdown.evaluator.EvaluationStrategy;
+import pushdown.evaluator.Evaluator;
+import pushdown.reader.PDAReader;
+import symbol.Symbol;
+import tape.Tape;
+
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <h2>CYKRecognizerTest</h2>
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class CYKRecognizerTest {
+
+  @Test
+  public void sameLanguageTest() throws FileNotFoundException {
+    assertSameLanguage(AUTOMATA, 8,
+            pda -> new CYKRecognizer(pda.compile())::evaluate);
+  }
+
+  @Test
+  public void normalFormTest() throws FileNotFoundException {
+    PushdownAutomaton pda = new PDAReader(new FileReader("test/AP3.txt")).getReadPDA();
+    ChomskyNormalForm normalForm = pda.compile().getChomskyNormalForm();
+    assertSame(normalForm, pda.compile().getChomskyNormalForm());
+    assertTrue(normalForm.derivesEmptyWord());
+
+    ContextFreeGrammar grammar = normalForm.getGrammar();
+    for (int p = 0; p < grammar.numberOfProductions(); p++) {
+      if (grammar.rhsLength(p) == 1) {
+        assertTrue(ContextFreeGrammar.isTerminal(grammar.rhs(p, 0)));
+      } else {
+        assertEquals(2, grammar.rhsLength(p));
+        assertFalse(ContextFreeGrammar.isTerminal(grammar.rhs(p, 0)));
+        assertFalse(ContextFreeGrammar.isTerminal(grammar.rhs(p, 1)));
+      }
+    }
+  }
+
+  @Test
+  public void parallelTest() throws FileNotFoundException {
+    PushdownAutomaton pda = new PDAReader(new FileReader("test/APf-2.txt")).getReadPDA();
+    List<Symbol> symbols = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      symbols.add(new Symbol(i % 3 == 0 ? "1" : "0"));
+    }
+    for (int i = symbols.size() - 1; i >= 0; i--) {
+      symbols.add(symbols.get(i));
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      Evaluator cyk = new CYKRecognizer(pda.compile(), pool);
+      assertTrue(cyk.evaluate(new Tape(symbols)));
+      symbols.remove(symbols.size() / 2);
+      assertFalse(cyk.evaluate(new Tape(symbols)));
+      assertFalse(pda.evaluate(new Tape(symbols), EvaluationStrategy.CYK));
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
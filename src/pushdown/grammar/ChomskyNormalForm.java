@@ -0,0 +1,211 @@
+package pushdown.grammar;
+
+import symbol.Symbol;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <h2>ChomskyNormalForm</h2>
+ *
+ * Grammar whose productions either
+ * replace a nonterminal by two
+ * nonterminals or by one terminal.
+ *
+ * Such a grammar can not derive the
+ * empty word, so whether the original
+ * grammar derives it is stored apart.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class ChomskyNormalForm {
+
+  /**
+   * Grammar in normal form.
+   */
+  private final ContextFreeGrammar grammar;
+
+  /**
+   * If the original grammar
+   * derives the empty word.
+   */
+  private final boolean derivesEmptyWord;
+
+  private ChomskyNormalForm(ContextFreeGrammar grammar, boolean derivesEmptyWord) {
+    this.grammar = grammar;
+    this.derivesEmptyWord = derivesEmptyWord;
+  }
+
+  /**
+   * Converts a grammar to its
+   * Chomsky normal form.
+   *
+   * Terminals inside longer productions
+   * are replaced by new nonterminals,
+   * long productions are split in binary
+   * ones, and then the empty and the
+   * unit productions are removed.
+   *
+   * @param grammar to convert.
+   * @return the equivalent normal form.
+   * @throws NullPointerException if
+   *          grammar is {@code null}.
+   */
+  public static ChomskyNormalForm convert(ContextFreeGrammar grammar) {
+    if (grammar == null)
+      throw new NullPointerException("grammar can not be null.");
+
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < grammar.numberOfNonterminals(); i++) {
+      names.add(grammar.getNonterminal(i));
+    }
+
+    // terminals and long productions.
+    int[] terminalNonterminals = new int[grammar.numberOfTerminals()];
+    Arrays.fill(terminalNonterminals, -1);
+    List<int[]> binary = new ArrayList<>();
+    for (int p = 0; p < grammar.numberOfProductions(); p++) {
+      int length = grammar.rhsLength(p);
+      int[] rhs = new int[length];
+      for (int j = 0; j < length; j++) {
+        int symbol = grammar.rhs(p, j);
+        if (length > 1 && ContextFreeGrammar.isTerminal(symbol)) {
+          int terminal = ContextFreeGrammar.terminal(symbol);
+          if (terminalNonterminals[terminal] == -1) {
+            terminalNonterminals[terminal] = names.size();
+            names.add("<" + grammar.getTerminal(terminal) + ">");
+            binary.add(new int[] {terminalNonterminals[terminal], symbol});
+          }
+          symbol = terminalNonterminals[terminal];
+        }
+        rhs[j] = symbol;
+      }
+
+      int lhs = grammar.lhs(p);
+      for (int j = 0; j + 2 < length; j++) {
+        int rest = names.size();
+        names.add(grammar.getNonterminal(grammar.lhs(p)) + "." + p + "." + (j + 1));
+        binary.add(new int[] {lhs, rhs[j], rest});
+        lhs = rest;
+      }
+      int[] production = new int[Math.min(length, 2) + 1];
+      production[0] = lhs;
+      System.arraycopy(rhs, Math.max(length - 2, 0), production, 1, production.length - 1);
+      binary.add(production);
+    }
+
+    ContextFreeGrammar binaryGrammar = new ContextFreeGrammar(names,
+            terminals(grammar), grammar.getStart(), binary);
+
+    // empty productions.
+    List<int[]> nonEmpty = new ArrayList<>();
+    for (int[] production : binary) {
+      if (production.length == 1)
+        continue;
+      nonEmpty.add(production);
+      if (production.length == 3) {
+        if (isNullable(binaryGrammar, production[2]))
+          nonEmpty.add(new int[] {production[0], production[1]});
+        if (isNullable(binaryGrammar, production[1]))
+          nonEmpty.add(new int[] {production[0], production[2]});
+      }
+    }
+
+    // unit productions.
+    int nonterminals = names.size();
+    List<List<Integer>> units = new ArrayList<>();
+    for (int i = 0; i < nonterminals; i++) {
+      units.add(new ArrayList<>());
+    }
+    for (int[] production : nonEmpty) {
+      if (isUnit(production))
+        units.get(production[0]).add(production[1]);
+    }
+    List<List<int[]>> byLhs = new ArrayList<>();
+    for (int i = 0; i < nonterminals; i++) {
+      byLhs.add(new ArrayList<>());
+    }
+    for (int[] production : nonEmpty) {
+      if (!isUnit(production))
+        byLhs.get(production[0]).add(production);
+    }
+
+    Set<List<Integer>> added = new HashSet<>();
+    List<int[]> normal = new ArrayList<>();
+    for (int a = 0; a < nonterminals; a++) {
+      boolean[] reached = new boolean[nonterminals];
+      int[] pending = new int[nonterminals];
+      int size = 0;
+      reached[a] = true;
+      pending[size++] = a;
+      while (size > 0) {
+        int b = pending[--size];
+        for (int[] production : byLhs.get(b)) {
+          int[] copy = production.clone();
+          copy[0] = a;
+          List<Integer> key = new ArrayList<>();
+          for (int symbol : copy) {
+            key.add(symbol);
+          }
+          if (added.add(key))
+            normal.add(copy);
+        }
+        for (int c : units.get(b)) {
+          if (!reached[c]) {
+            reached[c] = true;
+            pending[size++] = c;
+          }
+        }
+      }
+    }
+
+    ContextFreeGrammar normalGrammar = new ContextFreeGrammar(names,
+            terminals(grammar), grammar.getStart(), normal).trim();
+    return new ChomskyNormalForm(normalGrammar, grammar.isNullable(grammar.getStart()));
+  }
+
+  /**
+   * Returns the grammar in normal form.
+   *
+   * @return the grammar.
+   */
+  public ContextFreeGrammar getGrammar() {
+    return grammar;
+  }
+
+  /**
+   * Tests if the original grammar
+   * derives the empty word.
+   *
+   * @return {@code true} if it does.
+   */
+  public boolean derivesEmptyWord() {
+    return derivesEmptyWord;
+  }
+
+  @Override
+  public String toString() {
+    return grammar.toString()
+            + (derivesEmptyWord ? grammar.getNonterminal(grammar.getStart()) + " → .\n" : "");
+  }
+
+  private static boolean isNullable(ContextFreeGrammar grammar, int symbol) {
+    return !ContextFreeGrammar.isTerminal(symbol) && grammar.isNullable(symbol);
+  }
+
+  private static boolean isUnit(int[] production) {
+    return production.length == 2 && !ContextFreeGrammar.isTerminal(production[1]);
+  }
+
+  private static Symbol[] terminals(ContextFreeGrammar grammar) {
+    Symbol[] terminals = new Symbol[grammar.numberOfTerminals()];
+    for (int i = 0; i < terminals.length; i++) {
+      terminals[i] = grammar.getTerminal(i);
+    }
+    return terminals;
+  }
+}
@@ -0,0 +1,387 @@
+package pushdown.grammar;
+
+import symbol.Symbol;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <h2>ContextFreeGrammar</h2>
+ *
+ * Immutable context free grammar
+ * whose symbols are integers.
+ *
+ * Nonterminals are numbered from zero.
+ * Terminals are the identifiers of the
+ * input symbols of a compiled automaton,
+ * which start at one, and they are
+ * stored on the right hand sides as
+ * negative numbers, so both kinds of
+ * symbols can be told apart.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class ContextFreeGrammar {
+
+  /**
+   * Names of the nonterminals
+   * and the terminals.
+   */
+  private final String[] nonterminals;
+  private final Symbol[] terminals;
+
+  /**
+   * Start symbol.
+   */
+  private final int start;
+
+  /**
+   * Productions, with their right hand
+   * sides stored one after the other.
+   */
+  private final int[] lhs;
+  private final int[] rhsStart;
+  private final int[] rhsSymbols;
+
+  /**
+   * Productions sorted by their left
+   * hand side nonterminal.
+   */
+  private final int[] productionsStart;
+  private final int[] productionsByLhs;
+
+  /**
+   * Nonterminals that derive
+   * the empty word.
+   */
+  private final boolean[] nullable;
+
+  /**
+   * Constructor of the class.
+   *
+   * Each production is an array whose
+   * first element is its left hand side
+   * and the rest its right hand side.
+   *
+   * @param nonterminals names of the nonterminals.
+   * @param terminals symbols indexed by terminal
+   *                  identifier.
+   * @param start symbol of the grammar.
+   * @param productions of the grammar.
+   * @throws NullPointerException if any
+   *          parameter is {@code null}.
+   * @throws IllegalArgumentException if a
+   *          production uses an unknown symbol.
+   */
+  public ContextFreeGrammar(List<String> nonterminals,
+                            Symbol[] terminals,
+                            int start,
+                            List<int[]> productions) {
+    if (nonterminals == null || terminals == null || productions == null)
+      throw new NullPointerException("grammar elements can not be null.");
+
+    this.nonterminals = nonterminals.toArray(new String[0]);
+    this.terminals = terminals.clone();
+    this.start = start;
+    checkNonterminal(start);
+
+    int symbols = 0;
+    for (int[] production : productions) {
+      symbols += production.length - 1;
+    }
+    lhs = new int[productions.size()];
+    rhsStart = new int[productions.size() + 1];
+    rhsSymbols = new int[symbols];
+    int position = 0;
+    for (int p = 0; p < productions.size(); p++) {
+      int[] production = productions.get(p);
+      checkNonterminal(production[0]);
+      lhs[p] = production[0];
+      rhsStart[p] = position;
+      for (int i = 1; i < production.length; i++) {
+        int symbol = production[i];
+        if (isTerminal(symbol)) {
+          if (terminal(symbol) >= terminals.length)
+            throw new IllegalArgumentException("unknown terminal " + terminal(symbol) + ".");
+        } else {
+          checkNonterminal(symbol);
+        }
+        rhsSymbols[position++] = symbol;
+      }
+    }
+    rhsStart[productions.size()] = position;
+
+    productionsStart = new int[this.nonterminals.length + 1];
+    for (int p = 0; p < lhs.length; p++) {
+      productionsStart[lhs[p] + 1] += 1;
+    }
+    for (int i = 0; i < this.nonterminals.length; i++) {
+      productionsStart[i + 1] += productionsStart[i];
+    }
+    productionsByLhs = new int[lhs.length];
+    int[] next = Arrays.copyOf(productionsStart, this.nonterminals.length);
+    for (int p = 0; p < lhs.length; p++) {
+      productionsByLhs[next[lhs[p]]++] = p;
+    }
+
+    nullable = computeNullable();
+  }
+
+  /**
+   * Tests if a symbol of a right
+   * hand side is a terminal.
+   *
+   * @param symbol of a right hand side.
+   * @return {@code true} if it is a terminal.
+   */
+  public static boolean isTerminal(int symbol) {
+    return symbol < 0;
+  }
+
+  /**
+   * Returns the identifier of a terminal
+   * of a right hand side.
+   *
+   * @param symbol of a right hand side.
+   * @return identifier of the terminal.
+   */
+  public static int terminal(int symbol) {
+    return -symbol;
+  }
+
+  /**
+   * Returns the right hand side symbol
+   * of a terminal identifier.
+   *
+   * @param terminal identifier, greater than zero.
+   * @return symbol of a right hand side.
+   */
+  public static int terminalSymbol(int terminal) {
+    return -terminal;
+  }
+
+  public int numberOfNonterminals() {
+    return nonterminals.length;
+  }
+
+  /**
+   * Returns the number of terminal
+   * identifiers, including the
+   * unused identifier zero.
+   *
+   * @return number of terminals.
+   */
+  public int numberOfTerminals() {
+    return terminals.length;
+  }
+
+  public int numberOfProductions() {
+    return lhs.length;
+  }
+
+  public int getStart() {
+    return start;
+  }
+
+  public String getNonterminal(int nonterminal) {
+    return nonterminals[nonterminal];
+  }
+
+  public Symbol getTerminal(int terminal) {
+    return terminals[terminal];
+  }
+
+  public int lhs(int production) {
+    return lhs[production];
+  }
+
+  public int rhsLength(int production) {
+    return rhsStart[production + 1] - rhsStart[production];
+  }
+
+  /**
+   * Returns a symbol of the right
+   * hand side of a production.
+   *
+   * @param production identifier.
+   * @param index of the symbol.
+   * @return the symbol.
+   */
+  public int rhs(int production, int index) {
+    return rhsSymbols[rhsStart[production] + index];
+  }
+
+  /**
+   * Returns the first position of the
+   * productions of a nonterminal.
+   *
+   * @param nonterminal identifier.
+   * @return first position.
+   * @see #productionAt(int)
+   */
+  public int productionsBegin(int nonterminal) {
+    return productionsStart[nonterminal];
+  }
+
+  /**
+   * Returns the position after the last
+   * production of a nonterminal.
+   *
+   * @param nonterminal identifier.
+   * @return end position.
+   * @see #productionAt(int)
+   */
+  public int productionsEnd(int nonterminal) {
+    return productionsStart[nonterminal + 1];
+  }
+
+  /**
+   * Returns the production at the
+   * specified position.
+   *
+   * @param position of the production.
+   * @return the production identifier.
+   */
+  public int productionAt(int position) {
+    return productionsByLhs[position];
+  }
+
+  /**
+   * Tests if the nonterminal
+   * derives the empty word.
+   *
+   * @param nonterminal identifier.
+   * @return {@code true} if it is nullable.
+   */
+  public boolean isNullable(int nonterminal) {
+    return nullable[nonterminal];
+  }
+
+  /**
+   * Returns an equivalent grammar without
+   * the nonterminals that do not derive
+   * any word or that can not be reached
+   * from the start symbol.
+   *
+   * The start symbol is always kept.
+   *
+   * @return the trimmed grammar.
+   */
+  public ContextFreeGrammar trim() {
+    boolean[] productive = computeProductive();
+    productive[start] = true;
+
+    boolean[] reachable = new boolean[nonterminals.length];
+    int[] pending = new int[nonterminals.length];
+    int size = 0;
+    reachable[start] = true;
+    pending[size++] = start;
+    while (size > 0) {
+      int nonterminal = pending[--size];
+      for (int i = productionsBegin(nonterminal); i < productionsEnd(nonterminal); i++) {
+        int p = productionAt(i);
+        if (!isProductive(p, productive))
+          continue;
+        for (int j = 0; j < rhsLength(p); j++) {
+          int symbol = rhs(p, j);
+          if (!isTerminal(symbol) && !reachable[symbol]) {
+            reachable[symbol] = true;
+            pending[size++] = symbol;
+          }
+        }
+      }
+    }
+
+    int[] ids = new int[nonterminals.length];
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < nonterminals.length; i++) {
+      ids[i] = reachable[i] ? names.size() : -1;
+      if (reachable[i])
+        names.add(nonterminals[i]);
+    }
+    List<int[]> productions = new ArrayList<>();
+    for (int p = 0; p < lhs.length; p++) {
+      if (!reachable[lhs[p]] || !isProductive(p, productive))
+        continue;
+      int[] production = new int[rhsLength(p) + 1];
+      production[0] = ids[lhs[p]];
+      for (int j = 0; j < rhsLength(p); j++) {
+        int symbol = rhs(p, j);
+        production[j + 1] = isTerminal(symbol) ? symbol : ids[symbol];
+      }
+      productions.add(production);
+    }
+    return new ContextFreeGrammar(names, terminals, ids[start], productions);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    for (int p = 0; p < lhs.length; p++) {
+      builder.append(nonterminals[lhs[p]]).append(" →");
+      if (rhsLength(p) == 0)
+        builder.append(" ").append(Symbol.EMPTY_SYMBOL_VALUE);
+      for (int j = 0; j < rhsLength(p); j++) {
+        int symbol = rhs(p, j);
+        builder.append(" ").append(isTerminal(symbol) ?
+                terminals[terminal(symbol)] : nonterminals[symbol]);
+      }
+      builder.append("\n");
+    }
+    return builder.toString();
+  }
+
+  private void checkNonterminal(int nonterminal) {
+    if (nonterminal < 0 || nonterminal >= nonterminals.length)
+      throw new IllegalArgumentException("unknown nonterminal " + nonterminal + ".");
+  }
+
+  private boolean isProductive(int production, boolean[] productive) {
+    for (int j = 0; j < rhsLength(production); j++) {
+      int symbol = rhs(production, j);
+      if (!isTerminal(symbol) && !productive[symbol])
+        return false;
+    }
+    return true;
+  }
+
+  /**
+   * Computes the nonterminals that derive
+   * a word, or only the empty word.
+   *
+   * @param onlyEmpty if only the empty
+   *                  word is considered.
+   * @return the nonterminals found.
+   */
+  private boolean[] derivesWords(boolean onlyEmpty) {
+    boolean[] derives = new boolean[nonterminals.length];
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (int p = 0; p < lhs.length; p++) {
+        if (derives[lhs[p]])
+          continue;
+        boolean derivesWord = true;
+        for (int j = 0; j < rhsLength(p) && derivesWord; j++) {
+          int symbol = rhs(p, j);
+          derivesWord = isTerminal(symbol) ? !onlyEmpty : derives[symbol];
+        }
+        if (derivesWord) {
+          derives[lhs[p]] = true;
+          changed = true;
+        }
+      }
+    }
+    return derives;
+  }
+
+  private boolean[] computeProductive() {
+    return derivesWords(false);
+  }
+
+  private boolean[] computeNullable() {
+    return derivesWords(true);
+  }
+}
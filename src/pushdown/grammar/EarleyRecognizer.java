@@ -0,0 +1,213 @@
+package pushdown.grammar;
+
+import pushdown.compiled.CompiledAutomaton;
+import pushdown.compiled.CompiledInput;
+import pushdown.evaluator.Evaluator;
+import tape.Tape;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <h2>EarleyRecognizer</h2>
+ *
+ * Evaluator that parses the input with
+ * the grammar of the automaton, using
+ * the Earley algorithm.
+ *
+ * It takes cubic time on the length of
+ * the input in the worst case, quadratic
+ * time if the grammar is not ambiguous
+ * and linear time for most deterministic
+ * languages. Empty productions are
+ * handled as proposed by Aycock and
+ * Horspool: when a nullable nonterminal
+ * is predicted, the item that waits for
+ * it is also advanced.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class EarleyRecognizer implements Evaluator {
+
+  /**
+   * Items of an input position. Items
+   * waiting for the same nonterminal
+   * are linked, so they are found
+   * without visiting the whole set.
+   */
+  private static final class ItemSet {
+    int[] items = new int[8];
+    int[] origins = new int[8];
+    int[] nextWaiting = new int[8];
+    int size;
+    Set<Long> added = new HashSet<>();
+    Map<Integer, Integer> lastWaiting = new HashMap<>();
+  }
+
+  private final CompiledAutomaton automaton;
+  private final ContextFreeGrammar grammar;
+
+  /**
+   * Dotted productions. The item of a
+   * production with the dot at position
+   * d is itemBase[production] + d.
+   */
+  private final int[] itemBase;
+  private final int[] itemProduction;
+  private final int[] itemNext;
+
+  /**
+   * Value of {@link #itemNext} when
+   * the dot is at the end.
+   */
+  private static final int COMPLETE = Integer.MIN_VALUE;
+
+  private ItemSet[] sets;
+
+  /**
+   * Constructor of the class.
+   *
+   * It uses the grammar cached on
+   * the automaton.
+   *
+   * @param automaton to evaluate.
+   * @throws NullPointerException if
+   *          automaton is {@code null}.
+   */
+  public EarleyRecognizer(CompiledAutomaton automaton) {
+    if (automaton == null)
+      throw new NullPointerException("automaton can not be null.");
+
+    this.automaton = automaton;
+    this.grammar = automaton.getGrammar();
+
+    itemBase = new int[grammar.numberOfProductions() + 1];
+    for (int p = 0; p < grammar.numberOfProductions(); p++) {
+      itemBase[p + 1] = itemBase[p] + grammar.rhsLength(p) + 1;
+    }
+    int items = itemBase[grammar.numberOfProductions()];
+    itemProduction = new int[items];
+    itemNext = new int[items];
+    for (int p = 0; p < grammar.numberOfProductions(); p++) {
+      for (int d = 0; d <= grammar.rhsLength(p); d++) {
+        itemProduction[itemBase[p] + d] = p;
+        itemNext[itemBase[p] + d] = d < grammar.rhsLength(p) ? grammar.rhs(p, d) : COMPLETE;
+      }
+    }
+  }
+
+  /**
+   * Returns the grammar used
+   * by the recognizer.
+   *
+   * @return the grammar.
+   */
+  public ContextFreeGrammar getGrammar() {
+    return grammar;
+  }
+
+  @Override
+  public boolean evaluate(Tape tape) {
+    return evaluate(new CompiledInput(automaton, tape));
+  }
+
+  @Override
+  public boolean evaluate(CompiledInput input) {
+    if (input == null)
+      throw new NullPointerException("input can not be null.");
+
+    int n = input.length();
+    sets = new ItemSet[n + 1];
+    sets[0] = new ItemSet();
+    try {
+      int start = grammar.getStart();
+      for (int i = grammar.productionsBegin(start); i < grammar.productionsEnd(start); i++) {
+        add(0, itemBase[grammar.productionAt(i)], 0);
+      }
+
+      for (int position = 0; position <= n; position++) {
+        ItemSet set = sets[position];
+        if (set == null)
+          return false;
+        if (position < n)
+          sets[position + 1] = new ItemSet();
+
+        for (int i = 0; i < set.size; i++) {
+          int item = set.items[i];
+          int origin = set.origins[i];
+          int next = itemNext[item];
+          if (next == COMPLETE) {
+            complete(position, grammar.lhs(itemProduction[item]), origin);
+          } else if (ContextFreeGrammar.isTerminal(next)) {
+            if (position < n && input.symbolAt(position) == ContextFreeGrammar.terminal(next))
+              add(position + 1, item + 1, origin);
+          } else {
+            for (int j = grammar.productionsBegin(next); j < grammar.productionsEnd(next); j++) {
+              add(position, itemBase[grammar.productionAt(j)], position);
+            }
+            if (grammar.isNullable(next))
+              add(position, item + 1, origin);
+          }
+        }
+        // no more items are added to this set.
+        set.added = null;
+        if (position < n && sets[position + 1].size == 0)
+          return false;
+      }
+
+      ItemSet last = sets[n];
+      for (int i = 0; i < last.size; i++) {
+        int item = last.items[i];
+        if (last.origins[i] == 0 && itemNext[item] == COMPLETE
+                && grammar.lhs(itemProduction[item]) == start)
+          return true;
+      }
+      return false;
+    } finally {
+      sets = null;
+    }
+  }
+
+  /**
+   * Advances the items that wait
+   * for a completed nonterminal.
+   *
+   * @param position of the input.
+   * @param nonterminal completed.
+   * @param origin where it started.
+   */
+  private void complete(int position, int nonterminal, int origin) {
+    ItemSet set = sets[origin];
+    Integer waiting = set.lastWaiting.get(nonterminal);
+    for (int i = waiting == null ? -1 : waiting; i >= 0; i = set.nextWaiting[i]) {
+      add(position, set.items[i] + 1, set.origins[i]);
+    }
+  }
+
+  private void add(int position, int item, int origin) {
+    ItemSet set = sets[position];
+    if (!set.added.add(((long) item << 32) | origin))
+      return;
+
+    if (set.size == set.items.length) {
+      set.items = Arrays.copyOf(set.items, set.size * 2);
+      set.origins = Arrays.copyOf(set.origins, set.size * 2);
+      set.nextWaiting = Arrays.copyOf(set.nextWaiting, set.size * 2);
+    }
+    set.items[set.size] = item;
+    set.origins[set.size] = origin;
+    int next = itemNext[item];
+    if (next != COMPLETE && !ContextFreeGrammar.isTerminal(next)) {
+      Integer waiting = set.lastWaiting.get(next);
+      set.nextWaiting[set.size] = waiting == null ? -1 : waiting;
+      set.lastWaiting.put(next, set.size);
+    } else {
+      set.nextWaiting[set.size] = -1;
+    }
+    set.size += 1;
+  }
+}
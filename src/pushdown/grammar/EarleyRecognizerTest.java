@@ -0,0 +1,77 @@
+package pushdown.grammar;
+
+import static org.junit.Assert.*;
+import static pushdown.evaluator.LanguageAssert.AUTOMATA;
+import static pushdown.evaluator.LanguageAssert.assertSameLanguage;
+
+import org.junit.Test;
+import pushdown.PushdownAutomaton;
+import pushdown.evaluator.EvaluationStrategy;
+import pushdown.reader.PDAReader;
+import symbol.Symbol;
+import tape.Tape;
+
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h2>EarleyRecognizerTest</h2>
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class EarleyRecognizerTest {
+
+  @Test
+  public void sameLanguageTest() throws FileNotFoundException {
+    assertSameLanguage(AUTOMATA, 8,
+            pda -> new EarleyRecognizer(pda.compile())::evaluate);
+  }
+
+  @Test
+  public void grammarTest() throws FileNotFoundException {
+    PushdownAutomaton pda = new PDAReader(new FileReader("test/AP2.txt")).getReadPDA();
+    ContextFreeGrammar grammar = pda.toGrammar();
+    assertSame(grammar, pda.toGrammar());
+    assertSame(grammar, new EarleyRecognizer(pda.compile()).getGrammar());
+
+    // every nonterminal derives a word and is reachable.
+    ContextFreeGrammar trimmed = grammar.trim();
+    assertEquals(grammar.numberOfNonterminals(), trimmed.numberOfNonterminals());
+    assertEquals(grammar.numberOfProductions(), trimmed.numberOfProductions());
+    assertEquals("S", grammar.getNonterminal(grammar.getStart()));
+  }
+
+  @Test
+  public void emptyLanguageTest() {
+    PDAReader reader = new PDAReader(
+            "q f\n" +
+            "a\n" +
+            "S\n" +
+            "q\n" +
+            "S\n" +
+            "f\n" +
+            "q a S q S S\n");
+    PushdownAutomaton pda = reader.getReadPDA();
+    assertEquals(1, pda.toGrammar().numberOfNonterminals());
+    assertEquals(0, pda.toGrammar().numberOfProductions());
+    assertFalse(pda.evaluate(new Tape(), EvaluationStrategy.EARLEY));
+  }
+
+  @Test
+  public void longInputTest() throws FileNotFoundException {
+    PushdownAutomaton pda = new PDAReader(new FileReader("test/APf-2.txt")).getReadPDA();
+    List<Symbol> symbols = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      symbols.add(new Symbol(i % 3 == 0 ? "1" : "0"));
+    }
+    for (int i = symbols.size() - 1; i >= 0; i--) {
+      symbols.add(symbols.get(i));
+    }
+    assertTrue(pda.evaluate(new Tape(symbols), EvaluationStrategy.EARLEY));
+    symbols.remove(symbols.size() / 2);
+    assertFalse(pda.evaluate(new Tape(symbols), EvaluationStrategy.EARLEY));
+  }
+}
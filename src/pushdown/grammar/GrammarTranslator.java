@@ -0,0 +1,323 @@
+package pushdown.grammar;
+
+import pushdown.analysis.PopSummary;
+import pushdown.compiled.CompiledAutomaton;
+import pushdown.compiled.CompiledTransitionFunction;
+import symbol.Symbol;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h2>GrammarTranslator</h2>
+ *
+ * Translator of a pushdown automaton to
+ * a context free grammar that generates
+ * the same language.
+ *
+ * It uses the triple construction: the
+ * nonterminal [q X p] derives the words
+ * read from state q with X on the top of
+ * the stack until X is removed, arriving
+ * at state p. To accept by final state
+ * too, the nonterminal &lt;q X&gt; derives
+ * the words read from state q until an
+ * accepting state is reached with the
+ * whole input read and without removing
+ * X. Pushes of several symbols are split
+ * in chains of binary productions, so
+ * the grammar is polynomial on the size
+ * of the automaton.
+ *
+ * Only nonterminals that derive some
+ * word, found with a {@link PopSummary},
+ * are created, and the ones that
+ * can not be reached from the start
+ * symbol are removed afterwards.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class GrammarTranslator {
+
+  private final CompiledAutomaton automaton;
+  private final CompiledTransitionFunction table;
+  private final int states;
+  private final int stackSymbols;
+
+  /**
+   * [q X p] and &lt;q X&gt; derive
+   * some word, if the summary says
+   * the automaton can do it.
+   */
+  private final PopSummary summary;
+
+  /**
+   * Nonterminals created, by kind.
+   */
+  private final List<String> nonterminals = new ArrayList<>();
+  private final List<int[]> productions = new ArrayList<>();
+  private final Map<Long, Integer> triples = new HashMap<>();
+  private final Map<Long, Integer> chains = new HashMap<>();
+  private final Map<Long, Integer> accepts = new HashMap<>();
+  private final Map<Long, Integer> acceptChains = new HashMap<>();
+
+  /**
+   * Constructor of the class.
+   *
+   * @param automaton to translate.
+   * @throws NullPointerException if
+   *          automaton is {@code null}.
+   */
+  private GrammarTranslator(CompiledAutomaton automaton) {
+    if (automaton == null)
+      throw new NullPointerException("automaton can not be null.");
+
+    this.automaton = automaton;
+    this.table = automaton.getTransitionFunction();
+    this.states = automaton.numberOfStates();
+    this.stackSymbols = automaton.numberOfStackSymbols();
+    summary = PopSummary.of(automaton);
+  }
+
+  /**
+   * Translates the automaton
+   * to a grammar.
+   *
+   * @param automaton to translate.
+   * @return the equivalent grammar.
+   * @throws NullPointerException if
+   *          automaton is {@code null}.
+   */
+  public static ContextFreeGrammar translate(CompiledAutomaton automaton) {
+    return new GrammarTranslator(automaton).translate();
+  }
+
+  private ContextFreeGrammar translate() {
+    int start = newNonterminal("S");
+    int initialState = automaton.getInitialState();
+    int initialStackSymbol = automaton.getInitialStackSymbol();
+    for (int p = 0; p < states; p++) {
+      if (isTriple(initialState, initialStackSymbol, p))
+        productions.add(new int[] {start, triple(initialState, initialStackSymbol, p)});
+    }
+    if (isAccept(initialState, initialStackSymbol))
+      productions.add(new int[] {start, accept(initialState, initialStackSymbol)});
+
+    for (int t = 0; t < table.numberOfTransitions(); t++) {
+      addTripleProductions(t);
+      addAcceptProductions(t);
+    }
+    for (int q = 0; q < states; q++) {
+      if (automaton.isAccepting(q)) {
+        for (int x = 0; x < stackSymbols; x++) {
+          productions.add(new int[] {accept(q, x)});
+        }
+      }
+    }
+
+    Symbol[] terminals = new Symbol[automaton.numberOfInputSymbols()];
+    for (int i = 0; i < terminals.length; i++) {
+      terminals[i] = automaton.getInputSymbol(i);
+    }
+    return new ContextFreeGrammar(nonterminals, terminals, start, productions).trim();
+  }
+
+  private void addTripleProductions(int t) {
+    int q = table.currentState(t);
+    int x = table.stackSymbol(t);
+    int r = table.nextState(t);
+    int a = table.inputSymbol(t);
+    int k = pushLength(t);
+
+    if (k == 0) {
+      productions.add(production(triple(q, x, r), a));
+      return;
+    }
+
+    // reaches[m][s][p]: from s, removing the symbols
+    // from the m-th to the bottom one arrives at p.
+    boolean[][][] reaches = new boolean[k + 1][states][];
+    for (int m = k; m >= 1; m--) {
+      for (int s = 0; s < states; s++) {
+        reaches[m][s] = m == k ?
+                tripleTargets(s, pushed(t, m)) : reachesFrom(reaches[m + 1], pushed(t, m), s);
+      }
+    }
+
+    for (int p = 0; p < states; p++) {
+      if (reaches[1][r][p])
+        productions.add(production(triple(q, x, p), a, sequence(t, 1, r, p)));
+    }
+    for (int m = 1; m < k; m++) {
+      int y = pushed(t, m);
+      for (int s = 0; s < states; s++) {
+        for (int p = 0; p < states; p++) {
+          if (!reaches[m][s][p])
+            continue;
+          for (int middle = 0; middle < states; middle++) {
+            if (isTriple(s, y, middle) && reaches[m + 1][middle][p])
+              productions.add(new int[] {chain(t, m, s, p),
+                      triple(s, y, middle), sequence(t, m + 1, middle, p)});
+          }
+        }
+      }
+    }
+  }
+
+  private boolean[] tripleTargets(int s, int y) {
+    boolean[] targets = new boolean[states];
+    for (int p = 0; p < states; p++) {
+      targets[p] = isTriple(s, y, p);
+    }
+    return targets;
+  }
+
+  private boolean[] reachesFrom(boolean[][] below, int y, int s) {
+    boolean[] reached = new boolean[states];
+    for (int middle = 0; middle < states; middle++) {
+      if (!isTriple(s, y, middle))
+        continue;
+      for (int p = 0; p < states; p++) {
+        if (below[middle][p])
+          reached[p] = true;
+      }
+    }
+    return reached;
+  }
+
+  private void addAcceptProductions(int t) {
+    int q = table.currentState(t);
+    int x = table.stackSymbol(t);
+    int r = table.nextState(t);
+    int a = table.inputSymbol(t);
+    int k = pushLength(t);
+
+    if (k == 0)
+      return;
+    boolean[][] accepting = summary.acceptChains(t);
+    if (!accepting[1][r])
+      return;
+
+    productions.add(production(accept(q, x), a, acceptSequence(t, 1, r)));
+    for (int m = 1; m < k; m++) {
+      int y = pushed(t, m);
+      for (int s = 0; s < states; s++) {
+        if (!accepting[m][s])
+          continue;
+        int chain = acceptChain(t, m, s);
+        if (isAccept(s, y))
+          productions.add(new int[] {chain, accept(s, y)});
+        for (int middle = 0; middle < states; middle++) {
+          if (isTriple(s, y, middle) && accepting[m + 1][middle])
+            productions.add(new int[] {chain,
+                    triple(s, y, middle), acceptSequence(t, m + 1, middle)});
+        }
+      }
+    }
+  }
+
+  /**
+   * Creates the production of a transition,
+   * reading the input symbol if it is not
+   * the empty one.
+   */
+  private int[] production(int lhs, int inputSymbol, int... rhs) {
+    int length = rhs.length + (inputSymbol == CompiledAutomaton.EMPTY_SYMBOL_ID ? 1 : 2);
+    int[] production = new int[length];
+    production[0] = lhs;
+    int i = 1;
+    if (inputSymbol != CompiledAutomaton.EMPTY_SYMBOL_ID)
+      production[i++] = ContextFreeGrammar.terminalSymbol(inputSymbol);
+    for (int symbol : rhs) {
+      production[i++] = symbol;
+    }
+    return production;
+  }
+
+  /**
+   * Number of symbols pushed
+   * by the transition.
+   */
+  private int pushLength(int t) {
+    return table.pushEnd(t) - table.pushBegin(t);
+  }
+
+  /**
+   * Returns the m-th symbol pushed
+   * by the transition, from the top.
+   */
+  private int pushed(int t, int m) {
+    return table.pushedSymbol(table.pushEnd(t) - m);
+  }
+
+  private int tripleIndex(int q, int x, int p) {
+    return (q * stackSymbols + x) * states + p;
+  }
+
+  private boolean isTriple(int q, int x, int p) {
+    return summary.pops(q, x, p);
+  }
+
+  private boolean isAccept(int q, int x) {
+    return summary.acceptsInside(q, x);
+  }
+
+  private int sequence(int t, int m, int s, int p) {
+    return m == pushLength(t) ? triple(s, pushed(t, m), p) : chain(t, m, s, p);
+  }
+
+  private int acceptSequence(int t, int m, int s) {
+    return m == pushLength(t) ? accept(s, pushed(t, m)) : acceptChain(t, m, s);
+  }
+
+  private int triple(int q, int x, int p) {
+    long key = tripleIndex(q, x, p);
+    Integer id = triples.get(key);
+    if (id == null) {
+      id = newNonterminal("[" + automaton.getState(q) + " "
+              + automaton.getStackSymbol(x) + " " + automaton.getState(p) + "]");
+      triples.put(key, id);
+    }
+    return id;
+  }
+
+  private int accept(int q, int x) {
+    long key = (long) q * stackSymbols + x;
+    Integer id = accepts.get(key);
+    if (id == null) {
+      id = newNonterminal("<" + automaton.getState(q) + " "
+              + automaton.getStackSymbol(x) + ">");
+      accepts.put(key, id);
+    }
+    return id;
+  }
+
+  private int chain(int t, int m, int s, int p) {
+    long key = (((long) table.pushBegin(t) + m) * states + s) * states + p;
+    Integer id = chains.get(key);
+    if (id == null) {
+      id = newNonterminal("[" + automaton.getState(s) + " δ" + t + "." + m
+              + " " + automaton.getState(p) + "]");
+      chains.put(key, id);
+    }
+    return id;
+  }
+
+  private int acceptChain(int t, int m, int s) {
+    long key = ((long) table.pushBegin(t) + m) * states + s;
+    Integer id = acceptChains.get(key);
+    if (id == null) {
+      id = newNonterminal("<" + automaton.getState(s) + " δ" + t + "." + m + ">");
+      acceptChains.put(key, id);
+    }
+    return id;
+  }
+
+  private int newNonterminal(String name) {
+    nonterminals.add(name);
+    return nonterminals.size() - 1;
+  }
+}
@@ -0,0 +1,140 @@
+package pushdown.optimizer;
+
+import pushdown.PushdownAutomaton;
+
+/**
+ * <h2>OptimizationReport</h2>
+ *
+ * Result of the optimization of a
+ * pushdown automaton: the optimized
+ * automaton and how much was removed
+ * from the original one, by reason.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class OptimizationReport {
+
+  private final PushdownAutomaton original;
+  private final PushdownAutomaton optimized;
+
+  private final int unreachableStates;
+  private final int unproductiveStates;
+  private final int uselessStackSymbols;
+  private final int neverOnTopTransitions;
+  private final int unproductiveTransitions;
+  private final int duplicateTransitions;
+
+  OptimizationReport(PushdownAutomaton original,
+                     PushdownAutomaton optimized,
+                     int unreachableStates,
+                     int unproductiveStates,
+                     int uselessStackSymbols,
+                     int neverOnTopTransitions,
+                     int unproductiveTransitions,
+                     int duplicateTransitions) {
+    this.original = original;
+    this.optimized = optimized;
+    this.unreachableStates = unreachableStates;
+    this.unproductiveStates = unproductiveStates;
+    this.uselessStackSymbols = uselessStackSymbols;
+    this.neverOnTopTransitions = neverOnTopTransitions;
+    this.unproductiveTransitions = unproductiveTransitions;
+    this.duplicateTransitions = duplicateTransitions;
+  }
+
+  public PushdownAutomaton getOriginalAutomaton() {
+    return original;
+  }
+
+  public PushdownAutomaton getOptimizedAutomaton() {
+    return optimized;
+  }
+
+  /**
+   * Returns the number of removed states
+   * that can never be reached.
+   *
+   * @return unreachable states.
+   */
+  public int getUnreachableStates() {
+    return unreachableStates;
+  }
+
+  /**
+   * Returns the number of removed states
+   * that can be reached but from which no
+   * accepting computation continues.
+   *
+   * @return unproductive states.
+   */
+  public int getUnproductiveStates() {
+    return unproductiveStates;
+  }
+
+  /**
+   * Returns the number of removed
+   * stack symbols.
+   *
+   * @return useless stack symbols.
+   */
+  public int getUselessStackSymbols() {
+    return uselessStackSymbols;
+  }
+
+  /**
+   * Returns the number of removed
+   * transitions whose stack symbol can
+   * never be on the top on their state.
+   *
+   * @return never on top transitions.
+   */
+  public int getNeverOnTopTransitions() {
+    return neverOnTopTransitions;
+  }
+
+  /**
+   * Returns the number of removed
+   * transitions that can not lead to
+   * an accepting configuration.
+   *
+   * @return unproductive transitions.
+   */
+  public int getUnproductiveTransitions() {
+    return unproductiveTransitions;
+  }
+
+  /**
+   * Returns the number of removed
+   * transitions that do the same as
+   * an earlier one.
+   *
+   * @return duplicate transitions.
+   */
+  public int getDuplicateTransitions() {
+    return duplicateTransitions;
+  }
+
+  public int getRemovedStates() {
+    return unreachableStates + unproductiveStates;
+  }
+
+  public int getRemovedTransitions() {
+    return neverOnTopTransitions + unproductiveTransitions + duplicateTransitions;
+  }
+
+  @Override
+  public String toString() {
+    return "states: " + original.getSetOfStates().size() + " -> "
+            + optimized.getSetOfStates().size()
+            + " (" + unreachableStates + " unreachable, "
+            + unproductiveStates + " unproductive)\n"
+            + "stack symbols: " + original.getStackAlphabet().size() + " -> "
+            + optimized.getStackAlphabet().size() + "\n"
+            + "transitions: " + original.getTransitionFunction().numberOfTransitions() + " -> "
+            + optimized.getTransitionFunction().numberOfTransitions()
+            + " (" + neverOnTopTransitions + " never on top, "
+            + unproductiveTransitions + " unproductive, "
+            + duplicateTransitions + " duplicate)";
+  }
+}
@@ -0,0 +1,256 @@
+package pushdown.optimizer;
+
+import alphabet.Alphabet;
+import pushdown.PushdownAutomaton;
+import pushdown.analysis.InputBound;
+import pushdown.compiled.CompiledAutomaton;
+import pushdown.compiled.CompiledTransitionFunction;
+import pushdown.transition.PDATransitionFunction;
+import state.SetOfStates;
+import state.State;
+import symbol.Symbol;
+import transition.Transition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <h2>PDAOptimizer</h2>
+ *
+ * Optimizer that removes from a pushdown
+ * automaton the parts that can not take
+ * part in an accepting computation,
+ * giving an equivalent and smaller one.
+ *
+ * The pairs of state and stack symbol
+ * that can be on the top of the stack
+ * are found from the initial one, with
+ * the symbols that can be directly below
+ * each symbol: a transition that pushes
+ * nothing reveals any of the symbols that
+ * can be below the one it removes. A
+ * transition is removed when its state
+ * and stack symbol can never be on the
+ * top, when no accepting configuration
+ * can be reached from them or from the
+ * top it pushes, as told by the
+ * {@link InputBound}, or when an earlier
+ * transition already does the same.
+ *
+ * States and stack symbols that are not
+ * used by the transitions that remain are
+ * removed, except the initial ones, and
+ * the compiled automaton numbers the ones
+ * that remain densely. The input alphabet
+ * is kept, so the same tapes can be
+ * evaluated.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class PDAOptimizer {
+
+  private final PushdownAutomaton automaton;
+  private final CompiledAutomaton compiled;
+  private final CompiledTransitionFunction table;
+  private final int stackSymbols;
+
+  /**
+   * Pairs of state and stack symbol
+   * that can be on the top.
+   */
+  private final boolean[] onTop;
+
+  /**
+   * Symbols that can be directly
+   * below each stack symbol.
+   */
+  private final boolean[] below;
+
+  /**
+   * Constructor of the class.
+   *
+   * @param automaton to optimize.
+   * @throws NullPointerException if
+   *          automaton is {@code null}.
+   */
+  private PDAOptimizer(PushdownAutomaton automaton) {
+    if (automaton == null)
+      throw new NullPointerException("automaton can not be null.");
+
+    this.automaton = automaton;
+    this.compiled = automaton.compile();
+    this.table = compiled.getTransitionFunction();
+    this.stackSymbols = compiled.numberOfStackSymbols();
+    onTop = new boolean[compiled.numberOfStates() * stackSymbols];
+    below = new boolean[stackSymbols * stackSymbols];
+  }
+
+  /**
+   * Optimizes a pushdown automaton.
+   *
+   * @param automaton to optimize.
+   * @return the report of the optimization,
+   *          with the optimized automaton.
+   * @throws NullPointerException if
+   *          automaton is {@code null}.
+   */
+  public static OptimizationReport optimize(PushdownAutomaton automaton) {
+    return new PDAOptimizer(automaton).optimize();
+  }
+
+  private OptimizationReport optimize() {
+    findTops();
+    InputBound bound = compiled.getInputBound();
+
+    int neverOnTop = 0;
+    int unproductive = 0;
+    int duplicated = 0;
+    List<Transition> transitions = new ArrayList<>();
+    Set<List<Integer>> effects = new HashSet<>();
+    boolean[] usedStates = new boolean[compiled.numberOfStates()];
+    boolean[] usedSymbols = new boolean[stackSymbols];
+    usedStates[compiled.getInitialState()] = true;
+    usedSymbols[compiled.getInitialStackSymbol()] = true;
+
+    for (int t = 0; t < table.numberOfTransitions(); t++) {
+      int q = table.currentState(t);
+      int x = table.stackSymbol(t);
+      int next = table.nextState(t);
+      if (!onTop[q * stackSymbols + x]) {
+        neverOnTop += 1;
+        continue;
+      }
+      boolean pushes = table.pushBegin(t) != table.pushEnd(t);
+      if (!bound.canAccept(q, x)
+              || pushes && !bound.canAccept(next, table.pushedSymbol(table.pushEnd(t) - 1))) {
+        unproductive += 1;
+        continue;
+      }
+      if (!effects.add(effect(t))) {
+        duplicated += 1;
+        continue;
+      }
+
+      transitions.add(table.getTransition(t));
+      usedStates[q] = true;
+      usedStates[next] = true;
+      usedSymbols[x] = true;
+      for (int i = table.pushBegin(t); i < table.pushEnd(t); i++) {
+        usedSymbols[table.pushedSymbol(i)] = true;
+      }
+    }
+
+    // states that can be on the top with some symbol.
+    boolean[] reachedStates = new boolean[compiled.numberOfStates()];
+    for (int pair = 0; pair < onTop.length; pair++) {
+      reachedStates[pair / stackSymbols] |= onTop[pair];
+    }
+
+    List<State> states = new ArrayList<>();
+    List<State> accepting = new ArrayList<>();
+    int unreachableStates = 0;
+    int unproductiveStates = 0;
+    for (int q = 0; q < compiled.numberOfStates(); q++) {
+      if (!usedStates[q]) {
+        if (reachedStates[q])
+          unproductiveStates += 1;
+        else
+          unreachableStates += 1;
+        continue;
+      }
+      states.add(compiled.getState(q));
+      if (compiled.isAccepting(q))
+        accepting.add(compiled.getState(q));
+    }
+
+    List<Symbol> symbols = new ArrayList<>();
+    for (int x = 0; x < stackSymbols; x++) {
+      if (usedSymbols[x])
+        symbols.add(compiled.getStackSymbol(x));
+    }
+
+    PushdownAutomaton optimized = new PushdownAutomaton(
+            new SetOfStates(states),
+            automaton.getInputAlphabet(),
+            new Alphabet(symbols),
+            automaton.getInitialState(),
+            automaton.getInitialStackSymbol(),
+            new SetOfStates(accepting),
+            new PDATransitionFunction(transitions));
+    return new OptimizationReport(automaton, optimized,
+            unreachableStates, unproductiveStates, stackSymbols - symbols.size(),
+            neverOnTop, unproductive, duplicated);
+  }
+
+  /**
+   * Finds the pairs of state and stack
+   * symbol that can be on the top, and
+   * the symbols that can be below each
+   * symbol, until nothing new is found.
+   */
+  private void findTops() {
+    onTop[compiled.getInitialState() * stackSymbols + compiled.getInitialStackSymbol()] = true;
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (int t = 0; t < table.numberOfTransitions(); t++) {
+        int x = table.stackSymbol(t);
+        if (!onTop[table.currentState(t) * stackSymbols + x])
+          continue;
+        int next = table.nextState(t) * stackSymbols;
+        int begin = table.pushBegin(t);
+        int end = table.pushEnd(t);
+
+        if (begin == end) {
+          for (int w = 0; w < stackSymbols; w++) {
+            if (below[x * stackSymbols + w] && !onTop[next + w]) {
+              onTop[next + w] = true;
+              changed = true;
+            }
+          }
+          continue;
+        }
+
+        if (!onTop[next + table.pushedSymbol(end - 1)]) {
+          onTop[next + table.pushedSymbol(end - 1)] = true;
+          changed = true;
+        }
+        for (int i = end - 1; i > begin; i--) {
+          changed |= addBelow(table.pushedSymbol(i), table.pushedSymbol(i - 1));
+        }
+        for (int w = 0; w < stackSymbols; w++) {
+          if (below[x * stackSymbols + w])
+            changed |= addBelow(table.pushedSymbol(begin), w);
+        }
+      }
+    }
+  }
+
+  private boolean addBelow(int upper, int lower) {
+    if (below[upper * stackSymbols + lower])
+      return false;
+    below[upper * stackSymbols + lower] = true;
+    return true;
+  }
+
+  /**
+   * Returns what a transition does,
+   * ignoring how its pushed symbols
+   * are written.
+   *
+   * @param t transition.
+   * @return its elements and pushed symbols.
+   */
+  private List<Integer> effect(int t) {
+    List<Integer> effect = new ArrayList<>(Arrays.asList(table.currentState(t),
+            table.inputSymbol(t), table.stackSymbol(t), table.nextState(t)));
+    for (int i = table.pushBegin(t); i < table.pushEnd(t); i++) {
+      effect.add(table.pushedSymbol(i));
+    }
+    return effect;
+  }
+}
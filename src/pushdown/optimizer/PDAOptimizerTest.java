@@ -0,0 +1,99 @@
+package pushdown.optimizer;
+
+import static org.junit.Assert.*;
+import static pushdown.evaluator.LanguageAssert.AUTOMATA;
+import static pushdown.evaluator.LanguageAssert.assertSameLanguage;
+
+import org.junit.Test;
+import pushdown.PushdownAutomaton;
+import pushdown.reader.PDAReader;
+import state.State;
+import tape.reader.TapeReader;
+
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+
+/**
+ * <h2>PDAOptimizerTest</h2>
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class PDAOptimizerTest {
+
+  @Test
+  public void reportTest() {
+    PushdownAutomaton pda = new PDAReader(
+            "q p d u f\n" +
+            "a b\n" +
+            "S A B C\n" +
+            "q\n" +
+            "S\n" +
+            "f\n" +
+            "q a S p A S\n" +
+            "q a S p A S .\n" +
+            "p b A f .\n" +
+            "q b S d S\n" +
+            "d a S d S\n" +
+            "u a S f S\n" +
+            "p a B f .\n").getReadPDA();
+    OptimizationReport report = PDAOptimizer.optimize(pda);
+    PushdownAutomaton optimized = report.getOptimizedAutomaton();
+
+    assertSame(pda, report.getOriginalAutomaton());
+    assertEquals(1, report.getUnreachableStates());
+    assertEquals(1, report.getUnproductiveStates());
+    assertEquals(2, report.getUselessStackSymbols());
+    assertEquals(2, report.getNeverOnTopTransitions());
+    assertEquals(2, report.getUnproductiveTransitions());
+    assertEquals(1, report.getDuplicateTransitions());
+    assertEquals(5, report.getRemovedTransitions());
+
+    assertEquals(3, optimized.getSetOfStates().size());
+    assertFalse(optimized.getSetOfStates().contains(State.valueOf("d")));
+    assertFalse(optimized.getSetOfStates().contains(State.valueOf("u")));
+    assertEquals(2, optimized.getStackAlphabet().size());
+    assertEquals(2, optimized.getTransitionFunction().numberOfTransitions());
+    assertEquals(3, optimized.compile().numberOfStates());
+
+    assertTrue(optimized.evaluate(new TapeReader("a b").getReadTapes().get(0)));
+    assertFalse(optimized.evaluate(new TapeReader("b a").getReadTapes().get(0)));
+  }
+
+  @Test
+  public void emptyLanguageTest() {
+    PushdownAutomaton pda = new PDAReader(
+            "q d f\n" +
+            "a\n" +
+            "S\n" +
+            "q\n" +
+            "S\n" +
+            "f\n" +
+            "q a S d S\n" +
+            "d a S d S\n").getReadPDA();
+    PushdownAutomaton optimized = PDAOptimizer.optimize(pda).getOptimizedAutomaton();
+
+    // the initial state and symbol are always kept.
+    assertEquals(1, optimized.getSetOfStates().size());
+    assertTrue(optimized.getAcceptingStates().isEmpty());
+    assertEquals(0, optimized.getTransitionFunction().numberOfTransitions());
+    assertFalse(optimized.evaluate(new TapeReader("a").getReadTapes().get(0)));
+  }
+
+  @Test
+  public void sameLanguageTest() throws FileNotFoundException {
+    for (String file : AUTOMATA) {
+      PushdownAutomaton pda = new PDAReader(new FileReader(file)).getReadPDA();
+      PushdownAutomaton optimized = PDAOptimizer.optimize(pda).getOptimizedAutomaton();
+      assertTrue(file, optimized.getTransitionFunction().numberOfTransitions()
+              <= pda.getTransitionFunction().numberOfTransitions());
+    }
+    assertSameLanguage(AUTOMATA, 6,
+            pda -> PDAOptimizer.optimize(pda).getOptimizedAutomaton()::evaluate);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void nullAutomatonTest() {
+    PDAOptimizer.optimize(null);
+  }
+}
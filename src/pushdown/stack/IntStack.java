@@ -0,0 +1,120 @@
+package pushdown.stack;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * <h2>IntStack</h2>
+ *
+ * Stack of symbol identifiers
+ * backed by a growable array.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public final class IntStack implements SymbolStack {
+
+  /**
+   * Initial capacity of the stack.
+   */
+  private static final int INITIAL_CAPACITY = 16;
+
+  private int[] symbols;
+  private int size;
+
+  /**
+   * Constructor of an empty stack.
+   */
+  public IntStack() {
+    symbols = new int[INITIAL_CAPACITY];
+  }
+
+  @Override
+  public void push(int symbol) {
+    if (size == symbols.length)
+      symbols = Arrays.copyOf(symbols, grow(size));
+    symbols[size++] = symbol;
+  }
+
+  @Override
+  public int pop() {
+    if (size == 0)
+      throw new EmptyStackException();
+    return symbols[--size];
+  }
+
+  @Override
+  public int peek() {
+    if (size == 0)
+      throw new EmptyStackException();
+    return symbols[size - 1];
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public void clear() {
+    size = 0;
+  }
+
+  /**
+   * Removes the symbols over the
+   * specified size.
+   *
+   * @param size that the stack keeps.
+   * @throws IllegalArgumentException if size
+   *          is negative or bigger than the
+   *          one of the stack.
+   */
+  public void truncate(int size) {
+    if (size < 0 || size > this.size)
+      throw new IllegalArgumentException("can not truncate to size " + size + ".");
+    this.size = size;
+  }
+
+  /**
+   * Returns the symbol at the specified
+   * depth, counted from the bottom.
+   *
+   * @param index of the symbol.
+   * @return identifier of the symbol.
+   * @throws IndexOutOfBoundsException if
+   *          index is not on the stack.
+   */
+  public int get(int index) {
+    if (index < 0 || index >= size)
+      throw new IndexOutOfBoundsException("index " + index + " is not on the stack.");
+    return symbols[index];
+  }
+
+  @Override
+  public int[] toArray() {
+    return Arrays.copyOf(symbols, size);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(toArray());
+  }
+
+  /**
+   * Returns the next capacity of a stack,
+   * growing by half of its size once it
+   * is big to limit the memory that is
+   * copied and left unused.
+   *
+   * @param capacity current capacity.
+   * @return the new capacity.
+   */
+  static int grow(int capacity) {
+    long next = capacity < 1 << 20 ? (long) capacity * 2 : capacity + (capacity >> 1);
+    if (next > Integer.MAX_VALUE - 8)
+      next = Integer.MAX_VALUE - 8;
+    if (next <= capacity)
+      throw new OutOfMemoryError("stack is too big.");
+    return (int) next;
+  }
+}
@@ -15,7 +15,11 @@ import java.util.Stack;
  *
  * @author Cristian Abrante
  * @version 1.0.0
+ * @deprecated it is synchronized and boxes
+ *             every symbol, use a
+ *             {@link SymbolStack} instead.
  */
+@Deprecated
 public class PDAStack extends Stack<Symbol> {
 
   public PDAStack() {
@@ -0,0 +1,126 @@
+package pushdown.stack;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * <h2>PackedSymbolStack</h2>
+ *
+ * Stack of symbol identifiers that
+ * stores each symbol with the least
+ * number of bits, rounded up to a
+ * power of two, that can represent
+ * every symbol of the alphabet.
+ *
+ * A stack of an alphabet of two
+ * symbols takes one bit per symbol,
+ * so a hundred million symbols fit
+ * in about twelve megabytes.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public final class PackedSymbolStack implements SymbolStack {
+
+  /**
+   * Initial number of words.
+   */
+  private static final int INITIAL_WORDS = 4;
+
+  /**
+   * Logarithm of the bits of a symbol
+   * and of the symbols of a word.
+   */
+  private final int bitsShift;
+  private final int symbolsShift;
+  private final long mask;
+
+  private long[] words;
+  private int size;
+
+  /**
+   * Constructor of the class.
+   *
+   * @param numberOfSymbols size of the alphabet,
+   *                        whose identifiers go
+   *                        from zero up to it.
+   * @throws IllegalArgumentException if
+   *          numberOfSymbols is not positive.
+   */
+  public PackedSymbolStack(int numberOfSymbols) {
+    if (numberOfSymbols <= 0)
+      throw new IllegalArgumentException("alphabet can not be empty.");
+
+    int bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(numberOfSymbols - 1));
+    bitsShift = 32 - Integer.numberOfLeadingZeros(bits - 1);
+    symbolsShift = 6 - bitsShift;
+    mask = (1L << (1 << bitsShift)) - 1;
+    words = new long[INITIAL_WORDS];
+  }
+
+  /**
+   * Returns the number of bits
+   * used by each symbol.
+   *
+   * @return bits of a symbol.
+   */
+  public int bitsPerSymbol() {
+    return 1 << bitsShift;
+  }
+
+  @Override
+  public void push(int symbol) {
+    if (symbol < 0 || symbol > mask)
+      throw new IllegalArgumentException("symbol " + symbol + " does not fit in the stack.");
+
+    int word = size >>> symbolsShift;
+    if (word == words.length)
+      words = Arrays.copyOf(words, IntStack.grow(word));
+    int offset = (size & ((1 << symbolsShift) - 1)) << bitsShift;
+    words[word] = (words[word] & ~(mask << offset)) | ((long) symbol << offset);
+    size += 1;
+  }
+
+  @Override
+  public int pop() {
+    int symbol = peek();
+    size -= 1;
+    return symbol;
+  }
+
+  @Override
+  public int peek() {
+    if (size == 0)
+      throw new EmptyStackException();
+    return get(size - 1);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public void clear() {
+    size = 0;
+  }
+
+  @Override
+  public int[] toArray() {
+    int[] symbols = new int[size];
+    for (int i = 0; i < size; i++) {
+      symbols[i] = get(i);
+    }
+    return symbols;
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(toArray());
+  }
+
+  private int get(int index) {
+    int offset = (index & ((1 << symbolsShift) - 1)) << bitsShift;
+    return (int) ((words[index >>> symbolsShift] >>> offset) & mask);
+  }
+}
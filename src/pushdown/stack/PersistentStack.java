@@ -0,0 +1,197 @@
+package pushdown.stack;
+
+import java.util.EmptyStackException;
+
+/**
+ * <h2>PersistentStack</h2>
+ *
+ * Immutable stack of symbol
+ * identifiers.
+ *
+ * Each stack is a node that points
+ * to the stack below it, so push and
+ * pop are constant time operations
+ * that never modify an existing
+ * stack. Stacks obtained from the
+ * same one share all their common
+ * symbols, which allows to keep a
+ * stack per branch of a computation
+ * without copying it.
+ *
+ * Every stack also keeps a rolling
+ * hash of its symbols, computed from
+ * the hash of the stack below it, so
+ * stacks can be compared and hashed
+ * by content in constant time on
+ * most cases.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public final class PersistentStack {
+
+  /**
+   * The stack without symbols.
+   */
+  public static final PersistentStack EMPTY = new PersistentStack();
+
+  /**
+   * Multiplier of the rolling hash.
+   */
+  private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+  /**
+   * Symbol on the top of the stack.
+   */
+  private final int top;
+
+  /**
+   * Stack below the top symbol,
+   * {@code null} if stack is empty.
+   */
+  private final PersistentStack below;
+
+  /**
+   * Number of symbols of the stack.
+   */
+  private final int size;
+
+  /**
+   * Rolling hash of the symbols.
+   */
+  private final long hash;
+
+  /**
+   * Constructor of the empty stack.
+   */
+  private PersistentStack() {
+    top = -1;
+    below = null;
+    size = 0;
+    hash = 0;
+  }
+
+  /**
+   * Constructor of a non empty stack.
+   *
+   * @param top symbol of the stack.
+   * @param below stack under the symbol.
+   */
+  private PersistentStack(int top, PersistentStack below) {
+    this.top = top;
+    this.below = below;
+    this.size = below.size + 1;
+    this.hash = below.hash * HASH_MULTIPLIER + symbol(top);
+  }
+
+  /**
+   * Returns the stack that results
+   * of pushing the symbol on this one.
+   *
+   * @param symbol identifier to push.
+   * @return the new stack.
+   */
+  public PersistentStack push(int symbol) {
+    return new PersistentStack(symbol, this);
+  }
+
+  /**
+   * Returns the stack that results of
+   * removing the top of this one.
+   *
+   * @return the stack below the top.
+   * @throws EmptyStackException if stack
+   *          is empty.
+   */
+  public PersistentStack pop() {
+    if (isEmpty())
+      throw new EmptyStackException();
+    return below;
+  }
+
+  /**
+   * Returns the symbol on the
+   * top of the stack.
+   *
+   * @return identifier of the top.
+   * @throws EmptyStackException if stack
+   *          is empty.
+   */
+  public int peek() {
+    if (isEmpty())
+      throw new EmptyStackException();
+    return top;
+  }
+
+  /**
+   * Tests if the stack
+   * has no symbols.
+   *
+   * @return {@code true} if it is empty.
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the number of
+   * symbols of the stack.
+   *
+   * @return size of the stack.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the symbols of the stack,
+   * from the bottom to the top.
+   *
+   * @return array of identifiers.
+   */
+  public int[] toArray() {
+    int[] symbols = new int[size];
+    PersistentStack stack = this;
+    for (int i = size - 1; i >= 0; i--) {
+      symbols[i] = stack.top;
+      stack = stack.below;
+    }
+    return symbols;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof PersistentStack)) return false;
+
+    PersistentStack that = (PersistentStack) o;
+    if (size != that.size || hash != that.hash)
+      return false;
+
+    // common stacks below are shared, so they are not compared.
+    PersistentStack stack = this;
+    while (stack != that) {
+      if (stack.top != that.top || stack.hash != that.hash)
+        return false;
+      stack = stack.below;
+      that = that.below;
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  /**
+   * Value of the symbol
+   * on the rolling hash.
+   *
+   * @param symbol identifier.
+   * @return value of the symbol.
+   */
+  private static long symbol(int symbol) {
+    return (symbol + 1) * 0xC2B2AE3D27D4EB4FL;
+  }
+}
@@ -0,0 +1,63 @@
+package pushdown.stack;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import java.util.EmptyStackException;
+
+/**
+ * <h2>PersistentStackTest</h2>
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class PersistentStackTest {
+
+  @Test
+  public void pushAndPopTest() {
+    PersistentStack stack = PersistentStack.EMPTY.push(0).push(1).push(2);
+    assertEquals(3, stack.size());
+    assertEquals(2, stack.peek());
+    assertEquals(1, stack.pop().peek());
+    assertEquals(0, stack.pop().pop().peek());
+    assertTrue(stack.pop().pop().pop().isEmpty());
+  }
+
+  @Test
+  public void sharingTest() {
+    PersistentStack base = PersistentStack.EMPTY.push(0).push(1);
+    PersistentStack left = base.push(2);
+    PersistentStack right = base.pop().push(3);
+
+    assertArrayEquals(new int[] {0, 1}, base.toArray());
+    assertArrayEquals(new int[] {0, 1, 2}, left.toArray());
+    assertArrayEquals(new int[] {0, 3}, right.toArray());
+    assertSame(base, left.pop());
+    assertSame(base.pop(), right.pop());
+  }
+
+  @Test
+  public void equalsTest() {
+    PersistentStack left = PersistentStack.EMPTY.push(0).push(1).push(2);
+    PersistentStack right = PersistentStack.EMPTY.push(0).push(1).push(2);
+    PersistentStack other = PersistentStack.EMPTY.push(0).push(2).push(1);
+
+    assertEquals(left, right);
+    assertEquals(left.hashCode(), right.hashCode());
+    assertEquals(left.pop(), right.pop().pop().push(1));
+    assertNotEquals(left, other);
+    assertNotEquals(left, left.pop());
+    assertEquals(PersistentStack.EMPTY, left.pop().pop().pop());
+  }
+
+  @Test(expected = EmptyStackException.class)
+  public void emptyPopTest() {
+    PersistentStack.EMPTY.pop();
+  }
+
+  @Test(expected = EmptyStackException.class)
+  public void emptyPeekTest() {
+    PersistentStack.EMPTY.peek();
+  }
+}
@@ -0,0 +1,137 @@
+package pushdown.stack;
+
+import pushdown.compiled.CompiledAutomaton;
+import symbol.Symbol;
+import transition.SymbolList;
+
+/**
+ * <h2>SymbolStack</h2>
+ *
+ * Mutable stack of stack symbol
+ * identifiers of a compiled automaton,
+ * stored without boxing.
+ *
+ * Unlike {@link PDAStack} it is not
+ * synchronized, so it must be used by
+ * one thread at a time.
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public interface SymbolStack {
+
+  /**
+   * Maximum number of symbols of an
+   * alphabet for which stacks are
+   * packed, eight bits per symbol.
+   */
+  int PACKED_ALPHABET_LIMIT = 1 << 8;
+
+  /**
+   * Creates an empty stack for an
+   * alphabet, packed if the alphabet
+   * is small enough.
+   *
+   * @param numberOfSymbols size of the alphabet.
+   * @return the new stack.
+   * @throws IllegalArgumentException if
+   *          numberOfSymbols is not positive.
+   */
+  static SymbolStack forAlphabet(int numberOfSymbols) {
+    if (numberOfSymbols <= 0)
+      throw new IllegalArgumentException("alphabet can not be empty.");
+    return numberOfSymbols <= PACKED_ALPHABET_LIMIT ?
+            new PackedSymbolStack(numberOfSymbols) :
+            new IntStack();
+  }
+
+  /**
+   * Pushes a symbol on the top.
+   *
+   * @param symbol identifier to push.
+   * @throws IllegalArgumentException if the
+   *          stack can not store the symbol.
+   */
+  void push(int symbol);
+
+  /**
+   * Removes the symbol on the top.
+   *
+   * @return identifier of the removed symbol.
+   * @throws java.util.EmptyStackException
+   *          if stack is empty.
+   */
+  int pop();
+
+  /**
+   * Returns the symbol on the top.
+   *
+   * @return identifier of the top.
+   * @throws java.util.EmptyStackException
+   *          if stack is empty.
+   */
+  int peek();
+
+  /**
+   * Returns the number of symbols.
+   *
+   * @return size of the stack.
+   */
+  int size();
+
+  /**
+   * Tests if the stack
+   * has no symbols.
+   *
+   * @return {@code true} if it is empty.
+   */
+  default boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Removes every symbol, keeping
+   * the memory of the stack.
+   */
+  void clear();
+
+  /**
+   * Returns the symbols of the stack,
+   * from the bottom to the top.
+   *
+   * @return array of identifiers.
+   */
+  int[] toArray();
+
+  /**
+   * Pushes the symbols of a transition,
+   * from the last one to the first one,
+   * so the first symbol ends on the top.
+   * Empty symbols are not pushed.
+   *
+   * @param symbols to push.
+   * @param automaton that assigns the
+   *                  identifiers.
+   * @throws NullPointerException if any
+   *          parameter is {@code null}.
+   * @throws IllegalArgumentException if a
+   *          symbol does not belong to the
+   *          stack alphabet.
+   */
+  default void push(SymbolList symbols, CompiledAutomaton automaton) {
+    if (symbols == null)
+      throw new NullPointerException("symbols can not be null.");
+    if (automaton == null)
+      throw new NullPointerException("automaton can not be null.");
+
+    for (int i = symbols.size() - 1; i >= 0; --i) {
+      Symbol symbol = symbols.get(i);
+      if (symbol.equals(Symbol.EMPTY_SYMBOL))
+        continue;
+      int id = automaton.stackSymbolId(symbol);
+      if (id == CompiledAutomaton.UNKNOWN_ID)
+        throw new IllegalArgumentException(symbol + " does not belong to the stack alphabet.");
+      push(id);
+    }
+  }
+}
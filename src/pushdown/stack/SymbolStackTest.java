@@ -0,0 +1,104 @@
+package pushdown.stack;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import pushdown.compiled.CompiledAutomaton;
+import pushdown.reader.PDAReader;
+import symbol.Symbol;
+import transition.SymbolList;
+
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.util.EmptyStackException;
+import java.util.Random;
+
+/**
+ * <h2>SymbolStackTest</h2>
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class SymbolStackTest {
+
+  @Test
+  public void sameContentsTest() {
+    int[] alphabets = {1, 2, 3, 5, 16, 17, 256};
+    for (int alphabet : alphabets) {
+      SymbolStack packed = new PackedSymbolStack(alphabet);
+      SymbolStack plain = new IntStack();
+      Random random = new Random(alphabet);
+      for (int i = 0; i < 100000; i++) {
+        if (plain.isEmpty() || random.nextInt(3) != 0) {
+          int symbol = random.nextInt(alphabet);
+          packed.push(symbol);
+          plain.push(symbol);
+        } else {
+          assertEquals(plain.pop(), packed.pop());
+        }
+        assertEquals(plain.size(), packed.size());
+      }
+      assertArrayEquals(plain.toArray(), packed.toArray());
+    }
+  }
+
+  @Test
+  public void bitsPerSymbolTest() {
+    assertEquals(1, new PackedSymbolStack(1).bitsPerSymbol());
+    assertEquals(1, new PackedSymbolStack(2).bitsPerSymbol());
+    assertEquals(2, new PackedSymbolStack(3).bitsPerSymbol());
+    assertEquals(4, new PackedSymbolStack(5).bitsPerSymbol());
+    assertEquals(8, new PackedSymbolStack(256).bitsPerSymbol());
+    assertEquals(16, new PackedSymbolStack(257).bitsPerSymbol());
+    assertTrue(SymbolStack.forAlphabet(2) instanceof PackedSymbolStack);
+    assertTrue(SymbolStack.forAlphabet(1000) instanceof IntStack);
+  }
+
+  @Test
+  public void pushSymbolListTest() throws FileNotFoundException {
+    CompiledAutomaton automaton =
+            new PDAReader(new FileReader("test/AP2.txt")).getReadPDA().compile();
+    Symbol s = new Symbol("S");
+    Symbol a = new Symbol("A");
+    SymbolList symbols = new SymbolList();
+    symbols.add(a);
+    symbols.add(Symbol.EMPTY_SYMBOL);
+    symbols.add(s);
+
+    SymbolStack stack = SymbolStack.forAlphabet(automaton.numberOfStackSymbols());
+    stack.push(symbols, automaton);
+    assertEquals(2, stack.size());
+    assertEquals(automaton.stackSymbolId(a), stack.pop());
+    assertEquals(automaton.stackSymbolId(s), stack.pop());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void symbolOutOfAlphabetTest() {
+    new PackedSymbolStack(2).push(2);
+  }
+
+  @Test(expected = EmptyStackException.class)
+  public void emptyStackTest() {
+    SymbolStack stack = new PackedSymbolStack(4);
+    stack.push(3);
+    stack.pop();
+    stack.peek();
+  }
+
+  @Test
+  public void deepStackTest() {
+    // a^n b^n with n = 10^8 only needs one bit per cell.
+    int n = 100000000;
+    SymbolStack stack = new PackedSymbolStack(2);
+    stack.push(0);
+    for (int i = 0; i < n; i++) {
+      stack.push(1);
+    }
+    assertEquals(n + 1, stack.size());
+    for (int i = 0; i < n; i++) {
+      assertEquals(1, stack.pop());
+    }
+    assertEquals(0, stack.pop());
+    assertTrue(stack.isEmpty());
+  }
+}
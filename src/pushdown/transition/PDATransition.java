@@ -8,13 +8,46 @@ import symbol.Symbol;
 import transition.SymbolList;
 import transition.Transition;
 
+import java.util.Objects;
+
 /**
  * <h2>PDATransition</h2>
  *
+ * Transition of a pushdown automaton.
+ *
+ * Its elements are kept on final fields,
+ * together with the symbols it pushes in
+ * the order they are pushed and its hash,
+ * so they are read without going through
+ * the tuples of the transition, which are
+ * only kept for the generic API. Pushdown
+ * transitions can not be modified, and
+ * the list of next stack symbols must
+ * not change once the transition has
+ * been created.
+ *
  * @author Cristian Abrante
  * @version 1.0.0
  */
-public class PDATransition extends Transition {
+public final class PDATransition extends Transition {
+
+  private final State currentStateNode;
+  private final Symbol currentStateSymbol;
+  private final Symbol currentStateStackSymbol;
+  private final State nextStateNode;
+  private final SymbolList nextStateStackSymbols;
+
+  /**
+   * Symbols of the next stack symbols
+   * that are not empty, in the order
+   * they are pushed.
+   */
+  private final Symbol[] pushedSymbols;
+
+  /**
+   * Hash of the transition.
+   */
+  private final int hash;
 
   /**
    * Constructor of the class.
@@ -30,7 +63,7 @@ public class PDATransition extends Transition {
    */
   public PDATransition(Triplet<State, Symbol, Symbol> currentState,
                        Pair<State, SymbolList> nextState) {
-    super(currentState, nextState);
+    this((Tuple) currentState, (Tuple) nextState);
   }
 
   /**
@@ -55,53 +88,201 @@ public class PDATransition extends Transition {
             new Pair<>(nextState, nextStackSymbols));
   }
 
+  /**
+   * Constructor of the class.
+   * <p>
+   * It converts a generic transition
+   * whose tuples have the elements of
+   * a pushdown automaton transition.
+   *
+   * @param t transition to convert.
+   * @throws NullPointerException if
+   *          t is {@code null}.
+   */
   public PDATransition(Transition t) {
-    super(t.getCurrentState(), t.getNextState());
+    this(t.getCurrentState(), t.getNextState());
   }
 
   /**
-   * Sets the current state of
-   * the transition.
+   * Reads the elements of the
+   * transition from its tuples.
    *
-   * @param currentState
-   * @param currentTapeSymbol
-   * @param currentStackSymbol
+   * @param currentState current state of the transition.
+   * @param nextState    next state of the transition.
    */
-  public void setCurrentState(State currentState,
-                              Symbol currentTapeSymbol,
-                              Symbol currentStackSymbol) {
-    super.setCurrentState(new Triplet<>(currentState, currentTapeSymbol, currentStackSymbol));
+  private PDATransition(Tuple currentState, Tuple nextState) {
+    super(currentState, nextState);
+
+    currentStateNode = (State) currentState.getValue(0);
+    currentStateSymbol = (Symbol) currentState.getValue(1);
+    currentStateStackSymbol = (Symbol) currentState.getValue(2);
+    nextStateNode = (State) nextState.getValue(0);
+    nextStateStackSymbols = (SymbolList) nextState.getValue(1);
+
+    int pushed = 0;
+    if (nextStateStackSymbols != null) {
+      for (Symbol symbol : nextStateStackSymbols) {
+        if (!Symbol.EMPTY_SYMBOL.equals(symbol))
+          pushed += 1;
+      }
+    }
+    pushedSymbols = new Symbol[pushed];
+    // the first symbol of the list ends on the top.
+    for (int i = pushed - 1, j = 0; i >= 0; j++) {
+      Symbol symbol = nextStateStackSymbols.get(j);
+      if (!Symbol.EMPTY_SYMBOL.equals(symbol))
+        pushedSymbols[i--] = symbol;
+    }
+
+    hash = Objects.hash(currentStateNode, currentStateSymbol,
+            currentStateStackSymbol, nextStateNode, nextStateStackSymbols);
   }
 
   /**
-   * Sets next state of the
-   * transition.
+   * Returns the transition as a
+   * pushdown automaton transition.
    *
-   * @param nextState
-   * @param nextStackSymbols
+   * @param t transition to convert.
+   * @return the same transition if it is
+   *          already a pushdown automaton
+   *          transition, or a new one.
+   * @throws NullPointerException if
+   *          t is {@code null}.
    */
-  public void setNextState(State nextState,
-                           SymbolList nextStackSymbols) {
-    super.setNextState(new Pair<>(nextState, nextStackSymbols));
+  public static PDATransition valueOf(Transition t) {
+    if (t == null)
+      throw new NullPointerException("transition can not be null.");
+
+    return t instanceof PDATransition ? (PDATransition) t : new PDATransition(t);
+  }
+
+  /**
+   * Pushdown transitions can
+   * not be modified.
+   *
+   * @param currentState of the transition.
+   * @throws UnsupportedOperationException always.
+   */
+  @Override
+  public void setCurrentState(Tuple currentState) {
+    throw new UnsupportedOperationException("pushdown transitions can not be modified.");
+  }
+
+  /**
+   * Pushdown transitions can
+   * not be modified.
+   *
+   * @param nextState of the transition.
+   * @throws UnsupportedOperationException always.
+   */
+  @Override
+  public void setNextState(Tuple nextState) {
+    throw new UnsupportedOperationException("pushdown transitions can not be modified.");
   }
 
   public State getCurrentStateNode() {
-    return (State) getCurrentState().getValue(0);
+    return currentStateNode;
   }
 
   public Symbol getCurrentStateSymbol() {
-    return (Symbol) getCurrentState().getValue(1);
+    return currentStateSymbol;
   }
 
   public Symbol getCurrentStateStackSymbol() {
-    return (Symbol) getCurrentState().getValue(2);
+    return currentStateStackSymbol;
   }
 
   public State getNextStateNode() {
-    return (State) getNextState().getValue(0);
+    return nextStateNode;
   }
 
   public SymbolList getNextStateStackSymbols() {
-    return (SymbolList) getNextState().getValue(1);
+    return nextStateStackSymbols;
+  }
+
+  /**
+   * Returns the number of symbols
+   * that the transition pushes.
+   *
+   * @return number of pushed symbols.
+   */
+  public int numberOfPushedSymbols() {
+    return pushedSymbols.length;
+  }
+
+  /**
+   * Returns a symbol pushed by the
+   * transition. Symbols are numbered
+   * in the order they are pushed, so
+   * the last one ends on the top.
+   *
+   * @param i position of the symbol.
+   * @return the pushed symbol.
+   * @throws ArrayIndexOutOfBoundsException
+   *          if i is not a valid position.
+   */
+  public Symbol getPushedSymbol(int i) {
+    return pushedSymbols[i];
+  }
+
+  /**
+   * Tests if two transitions
+   * are equals.
+   *
+   * @param o object to be compared
+   * @return {@code true} if transition
+   * are equals.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof PDATransition)) return false;
+    PDATransition that = (PDATransition) o;
+    return hash == that.hash
+            && Objects.equals(currentStateNode, that.currentStateNode)
+            && Objects.equals(currentStateSymbol, that.currentStateSymbol)
+            && Objects.equals(currentStateStackSymbol, that.currentStateStackSymbol)
+            && Objects.equals(nextStateNode, that.nextStateNode)
+            && Objects.equals(nextStateStackSymbols, that.nextStateStackSymbols);
+  }
+
+  /**
+   * Hash code of the transition.
+   *
+   * @return hash code of the transition.
+   */
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  /**
+   * Compares two transitions, in the
+   * same order as their tuples.
+   *
+   * @param o the other transition to
+   *          compare with.
+   * @return 0 if transitions are equals
+   *         a negative number if o is greater
+   *         than this and a positive one otherwise.
+   */
+  @Override
+  public int compareTo(Transition o) {
+    if (this == o)
+      return 0;
+    if (!(o instanceof PDATransition))
+      return super.compareTo(o);
+
+    PDATransition that = (PDATransition) o;
+    int comp = currentStateNode.compareTo(that.currentStateNode);
+    if (comp == 0)
+      comp = currentStateSymbol.compareTo(that.currentStateSymbol);
+    if (comp == 0)
+      comp = currentStateStackSymbol.compareTo(that.currentStateStackSymbol);
+    if (comp == 0)
+      comp = nextStateNode.compareTo(that.nextStateNode);
+    if (comp == 0)
+      comp = nextStateStackSymbols.compareTo(that.nextStateStackSymbols);
+    return comp;
   }
 }
@@ -1,14 +1,12 @@
 package pushdown.transition;
 
 import org.javatuples.Triplet;
-import org.javatuples.Tuple;
 import state.State;
 import symbol.Symbol;
 import transition.Transition;
 import transition.TransitionFunction;
 
 import java.util.Collection;
-import java.util.Set;
 import java.util.TreeSet;
 
 /**
@@ -83,18 +81,15 @@ public class PDATransitionFunction extends TransitionFunction {
                                           Symbol stackSymbol) {
     Triplet<State, Symbol, Symbol> currentStateTriplet =
             new Triplet<>(currentState, tapeSymbol, stackSymbol);
-    Set<Transition> symbolTransitions =
-            super.getNextState(currentStateTriplet);
+    TreeSet<PDATransition> pdaTransitions = new TreeSet<>();
+    for (Transition t : super.getNextState(currentStateTriplet)) {
+      pdaTransitions.add(PDATransition.valueOf(t));
+    }
 
     // sets the tuple to collect empty symbol values.
     currentStateTriplet = currentStateTriplet.setAt1(Symbol.EMPTY_SYMBOL);
-    Set<Transition> emptySymbolTransitions =
-            super.getNextState(currentStateTriplet);
-
-    symbolTransitions.addAll(emptySymbolTransitions);
-    TreeSet<PDATransition> pdaTransitions = new TreeSet<>();
-    for (Transition t : symbolTransitions) {
-      pdaTransitions.add(new PDATransition(t));
+    for (Transition t : super.getNextState(currentStateTriplet)) {
+      pdaTransitions.add(PDATransition.valueOf(t));
     }
     return pdaTransitions;
   }
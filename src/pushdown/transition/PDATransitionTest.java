@@ -0,0 +1,70 @@
+package pushdown.transition;
+
+import static org.junit.Assert.*;
+
+import org.javatuples.Pair;
+import org.javatuples.Triplet;
+import org.junit.Before;
+import org.junit.Test;
+import state.State;
+import symbol.Symbol;
+import transition.SymbolList;
+import transition.Transition;
+
+/**
+ * <h2>PDATransitionTest</h2>
+ *
+ * @author Cristian Abrante
+ * @version 1.0.0
+ */
+public class PDATransitionTest {
+
+  State q0 = State.valueOf("q0");
+  State q1 = State.valueOf("q1");
+  Symbol a = Symbol.valueOf("a");
+  Symbol A = Symbol.valueOf("A");
+  Symbol S = Symbol.valueOf("S");
+
+  SymbolList pushed;
+
+  @Before
+  public void setUp() {
+    pushed = new SymbolList();
+    pushed.add(A);
+    pushed.add(Symbol.EMPTY_SYMBOL);
+    pushed.add(S);
+  }
+
+  @Test
+  public void fieldsTest() {
+    PDATransition t = new PDATransition(q0, a, S, q1, pushed);
+    assertSame(q0, t.getCurrentStateNode());
+    assertSame(a, t.getCurrentStateSymbol());
+    assertSame(S, t.getCurrentStateStackSymbol());
+    assertSame(q1, t.getNextStateNode());
+    assertSame(pushed, t.getNextStateStackSymbols());
+
+    // the first symbol of the list is pushed last.
+    assertEquals(2, t.numberOfPushedSymbols());
+    assertSame(S, t.getPushedSymbol(0));
+    assertSame(A, t.getPushedSymbol(1));
+  }
+
+  @Test
+  public void conversionTest() {
+    Transition generic = new Transition(new Triplet<>(q0, a, S), new Pair<>(q1, pushed));
+    PDATransition t = PDATransition.valueOf(generic);
+
+    assertEquals(new PDATransition(q0, a, S, q1, pushed), t);
+    assertEquals(new PDATransition(q0, a, S, q1, pushed).hashCode(), t.hashCode());
+    assertSame(t, PDATransition.valueOf(t));
+    assertEquals(0, t.compareTo(generic));
+    assertEquals(Integer.signum(generic.compareTo(new PDATransition(q1, a, S, q1, pushed))),
+            Integer.signum(t.compareTo(new PDATransition(q1, a, S, q1, pushed))));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void immutableTest() {
+    new PDATransition(q0, a, S, q1, pushed).setNextState(new Pair<>(q0, pushed));
+  }
+}
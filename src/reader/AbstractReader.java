@@ -155,7 +155,7 @@ public abstract class AbstractReader {
     List<String> tokenizedString = tokenizeString(symbolsString);
     List<Symbol> symbols = new ArrayList<>();
     for (String token : tokenizedString) {
-      symbols.add(new Symbol(token));
+      symbols.add(Symbol.valueOf(token));
     }
     return symbols;
   }
@@ -175,7 +175,7 @@ public abstract class AbstractReader {
     List<String> tokenizedString = tokenizeString(statesString);
     List<State> states = new ArrayList<>();
     for (String token : tokenizedString) {
-      states.add(new State(token));
+      states.add(State.valueOf(token));
     }
     return states;
   }
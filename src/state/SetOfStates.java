@@ -15,6 +15,10 @@ import java.util.Collection;
  * uses states could be DFA,
  * NFA, PDA or Turing Machine.
  *
+ * States are kept on a hashed store,
+ * so they are found by identifier in
+ * constant time.
+ *
  * @author Cristian Abrante
  * @version 1.0.0
  */
@@ -29,7 +33,7 @@ public class SetOfStates
    * of states.
    */
   public SetOfStates() {
-    super();
+    super(Store.HASHED);
   }
 
   /**
@@ -43,7 +47,8 @@ public class SetOfStates
    *              the set from.
    */
   public SetOfStates(State state) {
-    super(state);
+    super(Store.HASHED);
+    add(state);
   }
 
   /**
@@ -60,7 +65,7 @@ public class SetOfStates
    *
    */
   public SetOfStates(Collection<State> states) {
-    super(states);
+    super(Store.HASHED, states);
   }
 
   /**
@@ -72,7 +77,7 @@ public class SetOfStates
    *         the state.
    */
   public boolean containsById(String identifier) {
-    return super.contains(new State(identifier));
+    return super.contains(State.valueOf(identifier));
   }
 
   /**
@@ -90,7 +95,7 @@ public class SetOfStates
       throw new NullPointerException("states can not be null.");
 
     for (String state : identifiers) {
-      if (!super.contains(new State(state))) {
+      if (!super.contains(State.valueOf(state))) {
         return false;
       }
     }
@@ -101,10 +106,11 @@ public class SetOfStates
    * Returns the given state represented
    * by the identifier.
    *
-   * @param identifier
-   * @return
+   * @param identifier of the state.
+   * @return the state if it belongs to
+   *          the set, {@code null} otherwise.
    */
   public State getById(String identifier) {
-    return super.get(new State(identifier));
+    return super.get(State.valueOf(identifier));
   }
 }
@@ -1,6 +1,8 @@
 package state;
 
-import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * <h2>State</h2>
@@ -14,15 +16,45 @@ import java.util.Objects;
  * uses states could be DFA,
  * NFA, PDA or Turing Machine.
  *
+ * States created with {@link #valueOf(String)}
+ * are interned: there is only one of
+ * them for each identifier, shared by
+ * every automaton, so they are compared
+ * by identity and can not be modified.
+ * Their hash and ordinal are computed
+ * once, when they are created.
+ *
  * @author Cristian Abrante
  * @version 1.0.0
  */
 public class State implements Comparable<State> {
+  /**
+   * Interned states by identifier.
+   */
+  private static final ConcurrentMap<String, State> INTERNED = new ConcurrentHashMap<>();
+
+  /**
+   * Next ordinal of an
+   * interned state.
+   */
+  private static final AtomicInteger NEXT_ORDINAL = new AtomicInteger();
+
   /**
    * String that identifies the state.
    */
   private String identifier;
 
+  /**
+   * Hash of the identifier.
+   */
+  private int hash;
+
+  /**
+   * Order in which the state was
+   * interned, or -1 if it is not.
+   */
+  private final int ordinal;
+
   /**
    * Constructor of the class.
    *
@@ -46,7 +78,80 @@ public class State implements Comparable<State> {
    *         if identifier is {@code null}.
    */
   public State(String identifier) {
-    setIdentifier(identifier);
+    this(identifier, -1);
+  }
+
+  /**
+   * Constructor of an interned state.
+   *
+   * @param identifier of the state.
+   * @param ordinal of the state.
+   */
+  private State(String identifier, int ordinal) {
+    this.ordinal = ordinal;
+    assignIdentifier(identifier);
+  }
+
+  /**
+   * Returns the interned state of the
+   * identifier, creating it the first
+   * time the identifier is used.
+   *
+   * Once the state exists, it is
+   * returned without allocating any
+   * memory. Interned states are never
+   * released.
+   *
+   * @param identifier of the state.
+   * @return the interned state.
+   * @throws NullPointerException
+   *         if identifier is {@code null}.
+   */
+  public static State valueOf(String identifier) {
+    checkIfNull(identifier);
+
+    State state = INTERNED.get(identifier);
+    if (state != null)
+      return state;
+    return INTERNED.computeIfAbsent(identifier,
+            key -> new State(key, NEXT_ORDINAL.getAndIncrement()));
+  }
+
+  /**
+   * Returns the interned state equal
+   * to the state.
+   *
+   * @param state to intern.
+   * @return the interned state.
+   * @throws NullPointerException
+   *         if state is {@code null}.
+   */
+  public static State valueOf(State state) {
+    if (state == null)
+      throw new NullPointerException("state can not be null.");
+
+    return state.isInterned() ? state : valueOf(state.identifier);
+  }
+
+  /**
+   * Tests if the state is interned.
+   *
+   * @return {@code true} if it was
+   *         created by {@link #valueOf(String)}.
+   */
+  public boolean isInterned() {
+    return ordinal >= 0;
+  }
+
+  /**
+   * Returns the order in which
+   * the state was interned.
+   *
+   * @return the ordinal, or -1 if the
+   *         state is not interned.
+   */
+  public int ordinal() {
+    return ordinal;
   }
 
   /**
@@ -56,10 +161,13 @@ public class State implements Comparable<State> {
    * @param identifier of the state.
    * @throws NullPointerException
    *         if identifier is {@code null}.
+   * @throws UnsupportedOperationException
+   *         if the state is interned.
    */
   public void setIdentifier(String identifier) {
-    checkIfNull(identifier);
-    this.identifier = identifier;
+    if (isInterned())
+      throw new UnsupportedOperationException("interned states can not be modified.");
+    assignIdentifier(identifier);
   }
 
   /**
@@ -82,7 +190,9 @@ public class State implements Comparable<State> {
    */
   @Override
   public int compareTo(State o) {
-    return toString().compareTo(o.toString());
+    if (this == o)
+      return 0;
+    return identifier.compareTo(o.identifier);
   }
 
   /**
@@ -97,7 +207,10 @@ public class State implements Comparable<State> {
     if (this == o) return true;
     if (!(o instanceof State)) return false;
     State state = (State) o;
-    return Objects.equals(toString(), state.toString());
+    // there is only one interned state of each identifier.
+    if (isInterned() && state.isInterned())
+      return false;
+    return hash == state.hash && identifier.equals(state.identifier);
   }
 
   /**
@@ -108,7 +221,21 @@ public class State implements Comparable<State> {
    */
   @Override
   public int hashCode() {
-    return Objects.hash(identifier);
+    return hash;
+  }
+
+  /**
+   * Assigns the identifier and
+   * computes its hash.
+   *
+   * @param identifier of the state.
+   * @throws NullPointerException
+   *         if identifier is {@code null}.
+   */
+  private void assignIdentifier(String identifier) {
+    checkIfNull(identifier);
+    this.identifier = identifier;
+    this.hash = 31 + identifier.hashCode();
   }
 
   /**
@@ -119,7 +246,7 @@ public class State implements Comparable<State> {
    * @throws NullPointerException
    *         if identifier is {@code null}.
    */
-  private void checkIfNull(String identifier) {
+  private static void checkIfNull(String identifier) {
     if (identifier == null) {
       throw new NullPointerException("identifier can not be null");
     }
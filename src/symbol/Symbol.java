@@ -1,5 +1,9 @@
 package symbol;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * <h2>Symbol</h2>
  * 
@@ -11,17 +15,52 @@ package symbol;
  * represented into the input tape or
  * stack of our automata.
  * 
+ * Symbols created with {@link #valueOf(String)}
+ * are interned: there is only one of
+ * them for each value, shared by every
+ * automaton, so they are compared by
+ * identity. Their hash and ordinal are
+ * computed once, when they are created.
+ * 
  * @author	Cristian Abrante
  * @version 1.0.0
  */
 public class Symbol implements Comparable<Symbol> {
   
+  /**
+   * Interned symbols by value.
+   */
+  private static final ConcurrentMap<String, Symbol> INTERNED = new ConcurrentHashMap<>();
+  
+  /**
+   * Next ordinal of an
+   * interned symbol.
+   */
+  private static final AtomicInteger NEXT_ORDINAL = new AtomicInteger();
+  
   /**
    * it stores the character string of
    * the symbol.
    */
   private String value;
   
+  /**
+   * String representation of
+   * the symbol.
+   */
+  private String name;
+  
+  /**
+   * Hash of the value.
+   */
+  private int hash;
+  
+  /**
+   * Order in which the symbol was
+   * interned, or -1 if it is not.
+   */
+  private final int ordinal;
+  
   /**
    * This static flag is used in order to initialize
    * the empty symbol.
@@ -38,7 +77,7 @@ public class Symbol implements Comparable<Symbol> {
    * The empty symbol is an special kind of symbol used
    * to represent a transition with no input consume.
    */
-  public static final Symbol EMPTY_SYMBOL = new Symbol(EMPTY_SYMBOL_VALUE);
+  public static final Symbol EMPTY_SYMBOL = intern(EMPTY_SYMBOL_VALUE);
   
   /**
    * Constructor of Symbol.
@@ -50,7 +89,81 @@ public class Symbol implements Comparable<Symbol> {
    *         empty or the empty symbol value.
    */
   public Symbol(String value) {
+    this(value, -1);
+  }
+  
+  /**
+   * Constructor of an interned symbol.
+   * 
+   * @param value string that represents the value.
+   * @param ordinal of the symbol.
+   */
+  private Symbol(String value, int ordinal) {
     setValue(value);
+    this.ordinal = ordinal;
+  }
+  
+  /**
+   * Returns the interned symbol of
+   * the value, creating it the first
+   * time the value is used.
+   * 
+   * Once the symbol exists, it is
+   * returned without allocating any
+   * memory. Interned symbols are never
+   * released.
+   * 
+   * @param value string that represents the value.
+   * @return the interned symbol, or the
+   *         empty symbol if value is the
+   *         empty symbol value.
+   * @throws IllegalArgumentException if value
+   *         is null or empty.
+   */
+  public static Symbol valueOf(String value) {
+    if (value == null || value.isEmpty())
+      throw new IllegalArgumentException("symbol value can not be null or empty");
+    
+    Symbol symbol = INTERNED.get(value);
+    return symbol != null ? symbol : intern(value);
+  }
+  
+  /**
+   * Returns the interned symbol equal
+   * to the symbol.
+   * 
+   * @param symbol to intern.
+   * @return the interned symbol.
+   * @throws NullPointerException if
+   *         symbol is {@code null}.
+   */
+  public static Symbol valueOf(Symbol symbol) {
+    if (symbol == null)
+      throw new NullPointerException("symbol can not be null.");
+    
+    return symbol.isInterned() ? symbol : valueOf(symbol.value);
+  }
+  
+  /**
+   * Tests if the symbol is interned.
+   * 
+   * @return {@code true} if it was
+   *         created by {@link #valueOf(String)}.
+   */
+  public boolean isInterned() {
+    return ordinal >= 0;
+  }
+  
+  /**
+   * Returns the order in which the
+   * symbol was interned. The empty
+   * symbol is the first one.
+   * 
+   * @return the ordinal, or -1 if the
+   *         symbol is not interned.
+   */
+  public int ordinal() {
+    return ordinal;
   }
   
   /**
@@ -61,10 +174,7 @@ public class Symbol implements Comparable<Symbol> {
    */
   @Override
   public int hashCode() {
-    final int prime = 31;
-    int result = 1;
-    result = prime * result + ((value == null) ? 0 : value.hashCode());
-    return result;
+    return hash;
   }
   
   /**
@@ -74,7 +184,9 @@ public class Symbol implements Comparable<Symbol> {
    */
   @Override
   public int compareTo(Symbol o) {
-    return toString().compareTo(o.toString());
+    if (this == o)
+      return 0;
+    return name.compareTo(o.name);
   }
   
   /**
@@ -92,12 +204,10 @@ public class Symbol implements Comparable<Symbol> {
     if (getClass() != obj.getClass())
       return false;
     Symbol other = (Symbol) obj;
-    if (value == null) {
-      if (other.value != null)
-        return false;
-    } else if (!value.equals(other.value))
+    // there is only one interned symbol of each value.
+    if (isInterned() && other.isInterned())
       return false;
-    return true;
+    return hash == other.hash && value.equals(other.value);
   }
   
   /**
@@ -108,7 +218,20 @@ public class Symbol implements Comparable<Symbol> {
    */
   @Override
   public String toString() {
-    return value.equals(EMPTY_SYMBOL_VALUE) ? "ε" : value;
+    return name;
+  }
+  
+  /**
+   * Creates the interned symbol
+   * of the value if it does not
+   * exist.
+   * 
+   * @param value string that represents the value.
+   * @return the interned symbol.
+   */
+  private static Symbol intern(String value) {
+    return INTERNED.computeIfAbsent(value,
+            key -> new Symbol(key, NEXT_ORDINAL.getAndIncrement()));
   }
 
   /**
@@ -132,5 +255,7 @@ public class Symbol implements Comparable<Symbol> {
     }
     
     this.value = value;
+    this.name = value.equals(EMPTY_SYMBOL_VALUE) ? "ε" : value;
+    this.hash = 31 + value.hashCode();
   }
 }
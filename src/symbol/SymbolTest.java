@@ -60,4 +60,30 @@ public class SymbolTest {
     assertEquals(Symbol.EMPTY_SYMBOL, Symbol.EMPTY_SYMBOL);
     assertNotEquals(Symbol.EMPTY_SYMBOL, s1);
   }
+
+  @Test
+  public void internTest() {
+    Symbol s1 = Symbol.valueOf("a1");
+    Symbol s2 = Symbol.valueOf("a1");
+    Symbol s3 = new Symbol("a1");
+    
+    assertSame(s1, s2);
+    assertTrue(s1.isInterned());
+    assertFalse(s3.isInterned());
+    assertEquals(s1, s3);
+    assertEquals(s1.hashCode(), s3.hashCode());
+    assertEquals(0, s1.compareTo(s3));
+    assertSame(s1, Symbol.valueOf(s3));
+    assertEquals(-1, s3.ordinal());
+    assertNotEquals(s1, Symbol.valueOf("a2"));
+    assertNotEquals(s1.ordinal(), Symbol.valueOf("a2").ordinal());
+    
+    assertSame(Symbol.EMPTY_SYMBOL, Symbol.valueOf(Symbol.EMPTY_SYMBOL_VALUE));
+    assertEquals(0, Symbol.EMPTY_SYMBOL.ordinal());
+  }
+  
+  @Test(expected = IllegalArgumentException.class)
+  public void emptyStringInternError() {
+    Symbol.valueOf("");
+  }
 }
@@ -4,6 +4,7 @@ import symbol.Symbol;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -222,6 +223,19 @@ public class Tape {
     return head;
   }
 
+  /**
+   * Returns a read only view of
+   * the symbols of the tape.
+   *
+   * The view does not depend on the
+   * head and reflects later writes.
+   *
+   * @return unmodifiable list of symbols.
+   */
+  public List<Symbol> getSymbolsView() {
+    return Collections.unmodifiableList(getSymbols());
+  }
+
   /**
    * Returns the symbols of the
    * tape.
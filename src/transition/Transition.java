@@ -46,8 +46,13 @@ public class Transition implements Comparable<Transition> {
    *                              is {@code null}.
    */
   public Transition(Tuple currentState, Tuple nextState) {
-    setCurrentState(currentState);
-    setNextState(nextState);
+    if (currentState == null)
+      throw new NullPointerException("current state can not be null.");
+    if (nextState == null)
+      throw new NullPointerException("next state can not be null.");
+
+    this.currentState = currentState;
+    this.nextState = nextState;
   }
 
   /**
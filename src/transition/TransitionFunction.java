@@ -4,6 +4,10 @@ import ComputationalSet.ComputationalSet;
 import org.javatuples.Tuple;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -18,12 +22,30 @@ import java.util.TreeSet;
  * depending of the current state and
  * other external factors.
  *
+ * Transitions are indexed by their
+ * current state, and the index is
+ * updated every time a transition is
+ * added or removed, so the transitions
+ * of a current state are found in
+ * constant time.
+ *
  * @author Cristian Abrante
  * @version 1.0.0
  */
 public class TransitionFunction
         extends ComputationalSet<Transition> {
 
+  /**
+   * Transitions of each current state,
+   * as unmodifiable sorted snapshots.
+   * A change only rebuilds the snapshot
+   * of its current state. It is
+   * created by the first transition
+   * added, which can happen before the
+   * fields of the class are initialized.
+   */
+  private Map<Tuple, Set<Transition>> index;
+
   /**
    * Empty constructor of the class.
    */
@@ -67,28 +89,137 @@ public class TransitionFunction
    * state.
    */
   public boolean hasNextState(Tuple currentState) {
-    return !getNextState(currentState).isEmpty();
+    if (currentState == null)
+      throw new NullPointerException("current state can not be null.");
+
+    return index().containsKey(currentState);
   }
 
   /**
    * Returns a list of next states given a current
    * state.
    *
+   * The set is an unmodifiable snapshot
+   * that is not copied, so transitions
+   * added or removed later are not
+   * shown on it.
+   *
    * @param currentState of the transition.
-   * @return next state of the function or {@code null}
-   * if there is not next state.
+   * @return unmodifiable set of the transitions
+   * of the current state, empty if there is
+   * not next state.
    */
   public Set<Transition> getNextState(Tuple currentState) {
     if (currentState == null)
       throw new NullPointerException("current state can not be null.");
 
-    Set<Transition> transitions = new TreeSet<>();
-    for (Transition t : this) {
-      if (t.getCurrentState().equals(currentState)) {
-        transitions.add(t);
-      }
+    Set<Transition> transitions = index().get(currentState);
+    return transitions != null ? transitions : Collections.emptySet();
+  }
+
+  /**
+   * Adds a transition to the function.
+   *
+   * @param transition to add.
+   * @return {@code true} if the function did
+   *          not contain the transition.
+   * @throws NullPointerException if
+   *          transition is {@code null}.
+   */
+  @Override
+  public boolean add(Transition transition) {
+    if (!super.add(transition))
+      return false;
+
+    Set<Transition> transitions = index().get(transition.getCurrentState());
+    TreeSet<Transition> updated = transitions != null
+            ? new TreeSet<>(transitions) : new TreeSet<>();
+    updated.add(transition);
+    index().put(transition.getCurrentState(), Collections.unmodifiableSet(updated));
+    return true;
+  }
+
+  /**
+   * Adds every transition of the
+   * collection to the function.
+   *
+   * @param transitions to add.
+   * @return {@code true} if the function
+   *          changed.
+   * @throws NullPointerException if the
+   *          collection or any transition
+   *          are {@code null}.
+   */
+  @Override
+  public boolean addAll(Collection<? extends Transition> transitions) {
+    if (transitions == null)
+      throw new NullPointerException("transitions can not be null.");
+
+    boolean changed = false;
+    for (Transition transition : transitions) {
+      changed |= add(transition);
     }
-    return transitions;
+    return changed;
+  }
+
+  /**
+   * Removes a transition from
+   * the function.
+   *
+   * @param o transition to remove.
+   * @return {@code true} if the function
+   *          contained the transition.
+   * @throws NullPointerException if
+   *          transition is {@code null}.
+   */
+  @Override
+  public boolean remove(Object o) {
+    if (!super.remove(o))
+      return false;
+
+    unindex((Transition) o);
+    return true;
+  }
+
+  /**
+   * Removes all the transitions.
+   */
+  @Override
+  public void clear() {
+    super.clear();
+    index().clear();
+  }
+
+  /**
+   * Returns an iterator of the
+   * transitions, which updates the
+   * index when a transition is removed.
+   *
+   * @return an iterator of the function.
+   */
+  @Override
+  public Iterator<Transition> iterator() {
+    Iterator<Transition> iterator = super.iterator();
+    return new Iterator<Transition>() {
+      private Transition last;
+
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public Transition next() {
+        last = iterator.next();
+        return last;
+      }
+
+      @Override
+      public void remove() {
+        iterator.remove();
+        unindex(last);
+      }
+    };
   }
 
   /**
@@ -116,4 +247,35 @@ public class TransitionFunction
     }
     return transitionFunction;
   }
+
+  /**
+   * Removes a transition from
+   * the index.
+   *
+   * @param transition to remove.
+   */
+  private void unindex(Transition transition) {
+    Set<Transition> transitions = index().get(transition.getCurrentState());
+    if (transitions == null)
+      return;
+    TreeSet<Transition> updated = new TreeSet<>(transitions);
+    updated.remove(transition);
+    if (updated.isEmpty())
+      index().remove(transition.getCurrentState());
+    else
+      index().put(transition.getCurrentState(), Collections.unmodifiableSet(updated));
+  }
+
+  /**
+   * Returns the index of the
+   * transitions, creating it
+   * if needed.
+   *
+   * @return the index.
+   */
+  private Map<Tuple, Set<Transition>> index() {
+    if (index == null)
+      index = new HashMap<>();
+    return index;
+  }
 }
@@ -123,4 +123,49 @@ public class TransitionFunctionTest {
     assertEquals(7, test1function.numberOfTransitions());
     assertEquals(3, test1function.getNextState(test1Transitions.get(0).getCurrentState()).size());
   }
+
+  @Test
+  public void indexUpdateTest() {
+    TransitionFunction test1function = new TransitionFunction(test1Transitions);
+    Tuple currentState = test1Transitions.get(0).getCurrentState();
+    Transition tr1 = new Transition(currentState, new Pair<>(q1, S));
+
+    test1function.add(tr1);
+    assertEquals(2, test1function.getNextState(currentState).size());
+
+    test1function.remove(test1Transitions.get(0));
+    assertEquals(1, test1function.getNextState(currentState).size());
+    assertTrue(test1function.getNextState(currentState).contains(tr1));
+
+    test1function.removeIf(t -> t.getCurrentState().equals(currentState));
+    assertFalse(test1function.hasNextState(currentState));
+    assertTrue(test1function.getNextState(currentState).isEmpty());
+    assertTrue(test1function.hasNextState(test1Transitions.get(1).getCurrentState()));
+
+    test1function.clear();
+    assertFalse(test1function.hasNextState(test1Transitions.get(1).getCurrentState()));
+  }
+
+  @Test
+  public void snapshotNextStateTest() {
+    TransitionFunction test1function = new TransitionFunction(test1Transitions);
+    Tuple currentState = test1Transitions.get(0).getCurrentState();
+    Set<Transition> next = test1function.getNextState(currentState);
+
+    // the function can change while a snapshot is iterated.
+    for (Transition transition : next) {
+      test1function.add(new Transition(currentState, new Pair<>(q1, S)));
+      test1function.remove(transition);
+    }
+    assertEquals(1, next.size());
+    assertTrue(next.contains(test1Transitions.get(0)));
+    assertEquals(1, test1function.getNextState(currentState).size());
+    assertFalse(test1function.getNextState(currentState).contains(test1Transitions.get(0)));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void unmodifiableNextStateTest() {
+    TransitionFunction test1function = new TransitionFunction(test1Transitions);
+    test1function.getNextState(test1Transitions.get(0).getCurrentState()).clear();
+  }
 }